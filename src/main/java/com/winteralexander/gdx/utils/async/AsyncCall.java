@@ -1,17 +1,25 @@
 package com.winteralexander.gdx.utils.async;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap.Entry;
 import com.badlogic.gdx.utils.OrderedMap;
-import com.winteralexander.gdx.utils.system.SystemUtil;
+import com.winteralexander.gdx.utils.async.AsyncCallMetrics.CallSite;
 import com.winteralexander.gdx.utils.error.StackTracker;
 import com.winteralexander.gdx.utils.error.Tracker;
 import com.winteralexander.gdx.utils.log.Logger;
 import com.winteralexander.gdx.utils.log.NullLogger;
-
+import com.winteralexander.gdx.utils.memory.LeakDetector.Leak;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
-import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+import static com.winteralexander.gdx.utils.Validation.*;
 
 /**
  * Utility class to make async calls with a callback and handle exceptions
@@ -31,19 +39,76 @@ public class AsyncCall<R> {
 			exCallbacks = new OrderedMap<>();
 	private BooleanSupplier condition = null;
 
-	private boolean called = false;
+	private final AtomicBoolean called = new AtomicBoolean(false);
 	private volatile boolean cancelled = false, done = false;
 
+	private final CancellationToken token = new CancellationToken();
+
+	/**
+	 * Thread running the body of this call, guarded by this call
+	 */
+	private Thread runner = null;
+	private boolean interrupted = false;
+
+	/**
+	 * Outcome of the call once done, read by composed calls
+	 */
+	private R result = null;
+	private Exception failure = null;
+
+	/**
+	 * Calls composed from this one, notified once this call is done
+	 */
+	private Array<Runnable> dependents = null;
+
+	/**
+	 * Calls this composed call is waiting for, executed along with it, or null
+	 * if this call doesn't depend on any other call
+	 */
+	private AsyncCall<?>[] dependencies = null;
+	private AtomicInteger blockers = null;
+
+	/**
+	 * Delay before the call is submitted to the executor once executed
+	 */
+	private long startDelay = 0L;
+
+	private Priority priority = Priority.NORMAL;
+
 	private long retryDelay;
+	private RetryPolicy retryPolicy = null;
+	private int maxRetries = -1, retries = 0;
 
 	private final Tracker tracker = StackTracker.cut("AsyncCaller");
 
+	/**
+	 * Name of the call site for metrics, or null to use the tracker name
+	 */
+	private String name = null;
+
+	/**
+	 * Metrics of the call site, or null if the manager doesn't collect any
+	 */
+	private CallSite metrics = null;
+
+	/**
+	 * Time at which the current attempt is due to start, from
+	 * {@link System#nanoTime()}
+	 */
+	private long dueTime;
+
+	/**
+	 * Reports this call if it is never executed, null if not sampled
+	 */
+	private Leak leak;
+
 	public AsyncCall(AsyncCallManager manager, Call<R> call) {
 		ensureNotNull(manager, "manager");
 		ensureNotNull(call, "call");
 		this.manager = manager;
 		this.call = call;
 		this.retryDelay = manager.getDefaultRetryDelay();
+		this.leak = manager.getLeakDetector().track(this, tracker::get);
 	}
 
 	/**
@@ -535,53 +600,476 @@ public class AsyncCall<R> {
 		return this;
 	}
 
+	/**
+	 * Cancels this call without interrupting its body if it is running. The
+	 * body can still stop early by polling the {@link CancellationToken} of
+	 * this call. Calls composed from this one are cancelled as well.
+	 */
 	public void cancel() {
+		cancel(false);
+	}
+
+	/**
+	 * Cancels this call. Calls composed from this one are cancelled as well.
+	 *
+	 * @param interrupt true to interrupt the thread running the body of this
+	 * call, if it is running, so that blocking operations stop right away
+	 */
+	public void cancel(boolean interrupt) {
 		cancelled = true;
+		token.cancel();
+
+		if(interrupt) {
+			synchronized(this) {
+				if(runner != null && !interrupted) {
+					interrupted = true;
+					runner.interrupt();
+				}
+			}
+		}
 	}
 
-	private void run() {
-		StackTracker.enter(tracker);
-		boolean retry;
-		do {
-			retry = false;
+	/**
+	 * @return token cancelled along with this call, also available to the body
+	 * with {@link CancellationToken#current()}
+	 */
+	public CancellationToken getToken() {
+		return token;
+	}
+
+	/**
+	 * Creates a call transforming the result of this call once it is done. The
+	 * function is executed as a separate executor task, no thread waits for this
+	 * call to complete. If this call fails, the exception is passed to the
+	 * exception callbacks of the returned call instead.
+	 * <p>
+	 * Executing the returned call also executes this call if it wasn't already.
+	 *
+	 * @param function function transforming the result
+	 * @param <T> type of the transformed result
+	 * @return new AsyncCall completing with the transformed result
+	 */
+	public <T> AsyncCall<T> map(CheckedFunction<R, T> function) {
+		ensureNotNull(function, "function");
+		AsyncCall<T> mapped = new AsyncCall<>(manager, () -> function.call(getOutcome()));
+		mapped.dependOn(1, this);
+		onDone(mapped::release);
+		return mapped;
+	}
+
+	/**
+	 * Creates a call continuing this call with another AsyncCall built from its
+	 * result. The returned call completes with the result of the AsyncCall
+	 * returned by the function, without any thread waiting in between.
+	 * <p>
+	 * Executing the returned call also executes this call if it wasn't already.
+	 * The AsyncCall returned by the function is executed by the pipeline.
+	 *
+	 * @param function function building the next call from the result
+	 * @param <T> type of the result of the next call
+	 * @return new AsyncCall completing with the result of the next call
+	 */
+	public <T> AsyncCall<T> thenAsync(CheckedFunction<R, AsyncCall<T>> function) {
+		ensureNotNull(function, "function");
+		AtomicReference<AsyncCall<T>> next = new AtomicReference<>();
+		AtomicReference<Exception> nextFailure = new AtomicReference<>();
+
+		AsyncCall<T> composed = new AsyncCall<>(manager, () -> {
+			getOutcome();
+			if(nextFailure.get() != null)
+				throw nextFailure.get();
+			return next.get().getOutcome();
+		});
+		composed.dependOn(1, this);
+
+		onDone(() -> {
+			if(failure != null) {
+				composed.release();
+				return;
+			}
+
+			AsyncCall<T> nextCall;
 			try {
-				R value = call.execute();
-				if(callback != null && !cancelled
-						&& (condition == null || condition.getAsBoolean()))
-					callback.accept(value);
+				nextCall = ensureNotNull(function.call(result), "nextCall");
 			} catch(Exception ex) {
-				if(!cancelled && (condition == null || condition.getAsBoolean())) {
-					StackTracker.appendFullStack(ex);
-					retry = dispatch(ex);
-					if(retry)
-						SystemUtil.sleepIfRequired(retryDelay);
-				}
-			} finally {
-				if(!retry && !cancelled && (condition == null || condition.getAsBoolean())) {
-					if(finallyCallback != null)
-						finallyCallback.accept(null);
-					StackTracker.exit(tracker);
+				nextFailure.set(ex);
+				composed.release();
+				return;
+			}
+
+			next.set(nextCall);
+			nextCall.onDone(composed::release);
+			nextCall.executeOnce();
+		});
+		return composed;
+	}
+
+	/**
+	 * Alias of {@link #thenAsync(CheckedFunction)}
+	 */
+	public <T> AsyncCall<T> flatMap(CheckedFunction<R, AsyncCall<T>> function) {
+		return thenAsync(function);
+	}
+
+	/**
+	 * Creates a call completing with the result of this call, or failing with a
+	 * {@link TimeoutException} if this call isn't done after the specified
+	 * timeout. On timeout, this call is cancelled and its body is interrupted,
+	 * freeing its worker. The timeout starts when the returned call is
+	 * executed.
+	 *
+	 * @param timeout timeout in milliseconds
+	 * @return new AsyncCall with a timeout
+	 */
+	public AsyncCall<R> timeout(long timeout) {
+		ensurePositive(timeout, "timeout");
+
+		AsyncCall<Void> timer = new AsyncCall<>(manager, () -> null);
+		timer.startDelay = timeout;
+
+		AtomicReference<AsyncCall<?>> winner = new AtomicReference<>();
+		AsyncCall<R> composed = new AsyncCall<>(manager, () -> {
+			if(winner.get() == timer)
+				throw new TimeoutException("AsyncCall timed out after " + timeout + "ms");
+			return getOutcome();
+		});
+		composed.dependOn(1, this, timer);
+
+		onDone(() -> {
+			if(winner.compareAndSet(null, this))
+				composed.release();
+		});
+		timer.onDone(() -> {
+			if(winner.compareAndSet(null, timer)) {
+				cancel(true);
+				composed.release();
+			}
+		});
+		return composed;
+	}
+
+	/**
+	 * Creates a call completing once all the specified calls are done, with
+	 * their results in the same order. If any of the calls fails, the returned
+	 * call fails with the exception of the first failed call in order.
+	 * <p>
+	 * Executing the returned call executes all specified calls which weren't
+	 * already executed.
+	 *
+	 * @param calls calls to wait for, must not be empty
+	 * @param <T> common type of the results
+	 * @return new AsyncCall completing with the results of all calls
+	 */
+	@SafeVarargs
+	public static <T> AsyncCall<Array<T>> allOf(AsyncCall<? extends T>... calls) {
+		ensureNotEmpty(calls, "calls");
+		ensureNoneNull(calls, "calls");
+
+		AsyncCall<Array<T>> composed = new AsyncCall<>(calls[0].manager, () -> {
+			Array<T> results = new Array<>(true, calls.length);
+			for(AsyncCall<? extends T> call : calls)
+				results.add(call.getOutcome());
+			return results;
+		});
+		composed.dependOn(calls.length, calls);
+
+		for(AsyncCall<? extends T> call : calls)
+			call.onDone(composed::release);
+		return composed;
+	}
+
+	/**
+	 * Creates a call completing with the outcome of the first of the specified
+	 * calls to be done, whether it succeeded or failed.
+	 * <p>
+	 * Executing the returned call executes all specified calls which weren't
+	 * already executed.
+	 *
+	 * @param calls calls to wait for, must not be empty
+	 * @param <T> common type of the results
+	 * @return new AsyncCall completing with the outcome of the first call done
+	 */
+	@SafeVarargs
+	public static <T> AsyncCall<T> anyOf(AsyncCall<? extends T>... calls) {
+		ensureNotEmpty(calls, "calls");
+		ensureNoneNull(calls, "calls");
+
+		AtomicReference<AsyncCall<? extends T>> winner = new AtomicReference<>();
+		AsyncCall<T> composed = new AsyncCall<>(calls[0].manager,
+				() -> winner.get().getOutcome());
+		composed.dependOn(1, calls);
+
+		for(AsyncCall<? extends T> call : calls)
+			call.onDone(() -> {
+				if(winner.compareAndSet(null, call))
+					composed.release();
+			});
+		return composed;
+	}
+
+	/**
+	 * Creates a call completing with the outcome of this call, so that several
+	 * callers can attach their own callbacks to a single execution. Executing
+	 * the follower executes this call if it wasn't already.
+	 *
+	 * @return new AsyncCall following this one
+	 */
+	AsyncCall<R> follow() {
+		AsyncCall<R> follower = new AsyncCall<>(manager, this::getOutcome);
+		follower.dependOn(1, this);
+		onDone(follower::release);
+		return follower;
+	}
+
+	private void dependOn(int awaited, AsyncCall<?>... dependencies) {
+		this.dependencies = dependencies;
+		this.blockers = new AtomicInteger(awaited + 1);
+	}
+
+	private void release() {
+		if(blockers.decrementAndGet() == 0)
+			submit(0L);
+	}
+
+	private void submit(long delay) {
+		if(metrics != null)
+			dueTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+		manager.executeLater(this::run, delay, priority, this::reject);
+	}
+
+	/**
+	 * Completes this call with the exception of its executor rejecting it, such
+	 * as when a retry comes due after the executor was shut down
+	 *
+	 * @param ex rejection of the executor
+	 */
+	private void reject(RuntimeException ex) {
+		if(!cancelled && (condition == null || condition.getAsBoolean())) {
+			dispatch(ex);
+			if(finallyCallback != null)
+				finallyCallback.accept(null);
+		}
+
+		complete(null, cancelled ? new CancellationException("AsyncCall was cancelled") : ex);
+	}
+
+	/**
+	 * Registers a listener to run once this call is done, or immediately if it
+	 * already is. Exceptions of calls with listeners are forwarded to them
+	 * instead of being logged as unhandled.
+	 *
+	 * @param listener listener to run
+	 */
+	void onDone(Runnable listener) {
+		synchronized(this) {
+			if(dependents == null)
+				dependents = new Array<>(false, 1);
+
+			if(!done) {
+				dependents.add(listener);
+				return;
+			}
+		}
+		listener.run();
+	}
+
+	/**
+	 * Drops this call without executing it, such as when another call was
+	 * shared in its place, so that it isn't reported as leaked
+	 */
+	void discard() {
+		if(leak != null) {
+			leak.close();
+			leak = null;
+		}
+	}
+
+	private R getOutcome() throws Exception {
+		if(failure != null)
+			throw failure;
+		return result;
+	}
+
+	private void run() {
+		if(cancelled) {
+			complete(null, new CancellationException("AsyncCall was cancelled"));
+			return;
+		}
+
+		long start = 0L;
+		if(metrics != null) {
+			start = System.nanoTime();
+			metrics.onStart(start - dueTime);
+		}
+
+		StackTracker.enter(tracker);
+		boolean retry = false, executed = false;
+		R value = null;
+		Exception error = null;
+		try {
+			value = invoke();
+			executed = true;
+			if(metrics != null)
+				metrics.onExecuted(System.nanoTime() - start, false);
+			if(callback != null && !cancelled
+					&& (condition == null || condition.getAsBoolean()))
+				callback.accept(value);
+		} catch(Exception ex) {
+			// a cancelled dependency cancels this call
+			if(!executed && ex instanceof CancellationException && dependencies != null)
+				cancel();
+
+			if(!executed) {
+				error = ex;
+				if(metrics != null)
+					metrics.onExecuted(System.nanoTime() - start, true);
+			}
+
+			if(!cancelled && (condition == null || condition.getAsBoolean())) {
+				StackTracker.appendFullStack(ex);
+				retry = dispatch(ex) && scheduleRetry(ex);
+			}
+		} finally {
+			if(!retry && !cancelled && (condition == null || condition.getAsBoolean())) {
+				if(finallyCallback != null)
+					finallyCallback.accept(null);
+			}
+			StackTracker.exit(tracker);
+		}
+
+		if(!retry)
+			complete(value, cancelled ? new CancellationException("AsyncCall was cancelled")
+					: error);
+	}
+
+	private R invoke() throws Exception {
+		synchronized(this) {
+			runner = Thread.currentThread();
+		}
+		CancellationToken previous = CancellationToken.setCurrent(token);
+		try {
+			return call.execute();
+		} finally {
+			CancellationToken.setCurrent(previous);
+			synchronized(this) {
+				runner = null;
+				// don't leak the interruption to the next task of the worker
+				if(interrupted) {
+					Thread.interrupted();
+					interrupted = false;
 				}
 			}
-		} while(retry && !cancelled);
+		}
+	}
 
+	/**
+	 * Schedules the next attempt of this call on the manager's timer, unless this
+	 * call ran out of retries
+	 *
+	 * @param ex exception that caused the retry
+	 * @return true if the call will be retried, otherwise false
+	 */
+	private boolean scheduleRetry(Exception ex) {
+		if(cancelled)
+			return false;
+
+		if(maxRetries >= 0 && retries >= maxRetries) {
+			manager.getLogger().error("AsyncCaller gave up after " + retries + " retries", ex);
+			return false;
+		}
+
+		long delay = retryPolicy != null ? retryPolicy.getDelay(retries + 1) : retryDelay;
+		if(delay < 0L) {
+			manager.getLogger().error("AsyncCaller gave up after " + retries + " retries", ex);
+			return false;
+		}
+
+		if(!manager.tryAcquireRetry()) {
+			manager.getLogger().error("AsyncCaller retry budget exhausted", ex);
+			return false;
+		}
+
+		retries++;
+		if(metrics != null)
+			metrics.onRetry();
+		submit(delay);
+		return true;
+	}
+
+	private void complete(R result, Exception failure) {
+		if(metrics != null)
+			metrics.onComplete(failure);
+
+		Array<Runnable> listeners;
 		synchronized(this) {
+			this.result = result;
+			this.failure = failure;
 			done = true;
 			notifyAll();
+			listeners = dependents;
 		}
+
+		if(listeners != null)
+			for(int i = 0; i < listeners.size; i++)
+				listeners.get(i).run();
 	}
 
 	/**
 	 * Executes the async call
 	 */
 	public AsyncCall<R> execute() {
-		called = true;
+		called.set(true);
+		start();
+		return this;
+	}
 
-		if(cancelled)
-			return this;
+	/**
+	 * Executes this call unless it already was, such as by another follower of
+	 * the same shared call on another thread
+	 */
+	private void executeOnce() {
+		if(called.compareAndSet(false, true))
+			start();
+	}
 
-		manager.getExecutor().execute(this::run);
-		return this;
+	private void start() {
+		AsyncCallMetrics managerMetrics = manager.getMetrics();
+		if(managerMetrics != null) {
+			metrics = managerMetrics.getCallSite(getName());
+			metrics.onSubmit();
+		}
+
+		if(leak != null) {
+			leak.close();
+			leak = null;
+		}
+
+		if(cancelled) {
+			complete(null, new CancellationException("AsyncCall was cancelled"));
+			return;
+		}
+
+		if(dependencies != null) {
+			for(AsyncCall<?> dependency : dependencies)
+				dependency.executeOnce();
+			release();
+		} else
+			submit(startDelay);
+	}
+
+	/**
+	 * @return true if this call is done, whether it succeeded, failed or was
+	 * cancelled
+	 */
+	public boolean isDone() {
+		return done;
+	}
+
+	/**
+	 * @return true if this call is done and failed or was cancelled
+	 */
+	boolean isFailed() {
+		return done && failure != null;
 	}
 
 	public synchronized void join() throws InterruptedException {
@@ -589,14 +1077,6 @@ public class AsyncCall<R> {
 			wait();
 	}
 
-	@SuppressWarnings("deprecation")
-	@Override
-	protected void finalize() {
-		if(!called)
-			manager.getLogger().error("AsyncCaller was destroyed without ever being executed",
-					tracker.get());
-	}
-
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	private boolean dispatch(Exception exception) {
 		for(Entry<Class<? extends Exception>, ExceptionCallback> entry : exCallbacks.entries()) {
@@ -606,7 +1086,8 @@ public class AsyncCall<R> {
 			}
 		}
 
-		manager.getLogger().error("Unhandled exception in AsyncCaller", exception);
+		if(dependents == null)
+			manager.getLogger().error("Unhandled exception in AsyncCaller", exception);
 		return false;
 	}
 
@@ -614,15 +1095,90 @@ public class AsyncCall<R> {
 		defaultManager.setLogger(logger);
 	}
 
+	/**
+	 * @return name of the call site of this call, used to group its metrics
+	 */
+	public String getName() {
+		return name != null ? name : tracker.getName();
+	}
+
+	/**
+	 * Names the call site of this call, so that its metrics are reported
+	 * separately from other calls. Calls without a name are reported under the
+	 * name of their tracker.
+	 *
+	 * @param name name of the call site
+	 * @return the same AsyncCaller
+	 */
+	public AsyncCall<R> name(String name) {
+		this.name = name;
+		return this;
+	}
+
+	public Priority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Sets the priority class of this call. Calls of higher priority get a
+	 * larger share of the executor when calls are waiting for it.
+	 *
+	 * @param priority priority of this call
+	 * @return the same AsyncCaller
+	 */
+	public AsyncCall<R> priority(Priority priority) {
+		ensureNotNull(priority, "priority");
+		this.priority = priority;
+		return this;
+	}
+
 	public long getRetryDelay() {
 		return retryDelay;
 	}
 
+	/**
+	 * Sets a fixed delay between retry attempts, replacing any retry policy
+	 *
+	 * @param retryDelay delay in milliseconds
+	 * @return the same AsyncCaller
+	 */
 	public AsyncCall<R> retryDelay(long retryDelay) {
 		this.retryDelay = retryDelay;
+		this.retryPolicy = null;
+		return this;
+	}
+
+	/**
+	 * Sets the policy computing the delay before each retry attempt, such as
+	 * {@link RetryPolicy#exponential(long, long)}
+	 *
+	 * @param retryPolicy policy to use, or null to go back to the fixed retry delay
+	 * @return the same AsyncCaller
+	 */
+	public AsyncCall<R> retryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+		return this;
+	}
+
+	/**
+	 * Limits the amount of times this call can be retried. Once exhausted, the
+	 * exception is logged and the call completes.
+	 *
+	 * @param maxRetries maximum amount of retries, or -1 for unlimited
+	 * @return the same AsyncCaller
+	 */
+	public AsyncCall<R> maxRetries(int maxRetries) {
+		this.maxRetries = maxRetries;
 		return this;
 	}
 
+	/**
+	 * @return amount of times this call has been retried so far
+	 */
+	public int getRetries() {
+		return retries;
+	}
+
 	/**
 	 * Async call to a function without any parameters that returns void
 	 *
@@ -657,6 +1213,18 @@ public class AsyncCall<R> {
 		return defaultManager.async(function, param);
 	}
 
+	/**
+	 * Async call to a long-running function polling the cancellation token of
+	 * its call to stop early
+	 *
+	 * @param function function receiving the token of its call
+	 * @param <R>      result type of the function
+	 * @return AsyncCaller of the function
+	 */
+	public static <R> AsyncCall<R> cancellable(CheckedFunction<CancellationToken, R> function) {
+		return defaultManager.cancellable(function);
+	}
+
 	public static <P1, P2, R> AsyncCall<R> async(CheckedBiFunction<P1, P2, R> function,
 			P1 param1,
 			P2 param2) {
@@ -797,6 +1365,32 @@ public class AsyncCall<R> {
 		void call(P1 param1, P2 param2, P3 param3, P4 param4, P5 param5) throws Exception;
 	}
 
+	/**
+	 * Priority class of a call, deciding which lane of the manager's
+	 * {@link PriorityLaneExecutor} it waits in
+	 */
+	public enum Priority {
+		/**
+		 * Calls whose result is awaited by the player, such as from the game loop
+		 */
+		INTERACTIVE(16),
+		NORMAL(4),
+		/**
+		 * Bulk work which can be delayed, such as uploads or cache warming
+		 */
+		BACKGROUND(1);
+
+		private final int defaultWeight;
+
+		Priority(int defaultWeight) {
+			this.defaultWeight = defaultWeight;
+		}
+
+		public int getDefaultWeight() {
+			return defaultWeight;
+		}
+	}
+
 	private static class ExceptionCallback {
 		public final Consumer<? extends Exception> callback;
 		/**
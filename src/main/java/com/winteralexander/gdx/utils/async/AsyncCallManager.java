@@ -3,8 +3,12 @@ package com.winteralexander.gdx.utils.async;
 import com.winteralexander.gdx.utils.async.AsyncCall.*;
 import com.winteralexander.gdx.utils.log.Logger;
 import com.winteralexander.gdx.utils.log.NullLogger;
+import com.winteralexander.gdx.utils.memory.LeakDetector;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static com.winteralexander.gdx.utils.ObjectUtil.firstNonNull;
 import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
@@ -21,17 +25,53 @@ public class AsyncCallManager {
 	private Logger logger;
 	private final Executor executor;
 
+	/**
+	 * Lanes by priority in front of the executor
+	 */
+	private final PriorityLaneExecutor lanes;
+
 	/**
 	 * Default delay before retrying a request, in milliseconds
 	 */
 	private final long defaultRetryDelay;
 
+	/**
+	 * Timer resubmitting retried calls to the executor once their delay is over
+	 */
+	private final HashedWheelTimer retryTimer;
+
+	/**
+	 * Budget shared by all the retries of this manager, or null if unlimited
+	 */
+	private volatile RetryBudget retryBudget = null;
+
+	/**
+	 * Detects calls that are garbage collected without ever being executed
+	 */
+	private final LeakDetector leakDetector = new LeakDetector(
+			"AsyncCaller was destroyed without ever being executed",
+			null,
+			LeakDetector.ALL);
+
+	/**
+	 * Shared calls of {@link #singleFlight(Object, long, Supplier)} which are
+	 * either in flight or cached, by key
+	 */
+	private final ConcurrentHashMap<Object, AsyncCall<?>> flights = new ConcurrentHashMap<>();
+
+	/**
+	 * Execution metrics of the calls, or null if not collected
+	 */
+	private volatile AsyncCallMetrics metrics = null;
+
 	public AsyncCallManager(Logger logger, long defaultRetryDelay, Executor executor) {
 		ensureNotNull(executor, "executor");
 		ensurePositive(defaultRetryDelay, "defaultRetryDelay");
 		setLogger(logger);
 		this.executor = executor;
+		this.lanes = new PriorityLaneExecutor(executor, Integer.MAX_VALUE);
 		this.defaultRetryDelay = defaultRetryDelay;
+		this.retryTimer = new HashedWheelTimer("AsyncCall retry timer", 10L, 512);
 	}
 
 	/**
@@ -71,6 +111,18 @@ public class AsyncCallManager {
 		return new AsyncCall<>(this, () -> function.call(param));
 	}
 
+	/**
+	 * Async call to a long-running function polling the cancellation token of
+	 * its call to stop early
+	 *
+	 * @param function function receiving the token of its call
+	 * @param <R> result type of the function
+	 * @return AsyncCaller of the function
+	 */
+	public <R> AsyncCall<R> cancellable(CheckedFunction<CancellationToken, R> function) {
+		return new AsyncCall<>(this, () -> function.call(CancellationToken.current()));
+	}
+
 	public <P1, P2, R> AsyncCall<R> async(CheckedBiFunction<P1, P2, R> function,
 			P1 param1,
 			P2 param2) {
@@ -153,6 +205,85 @@ public class AsyncCallManager {
 		});
 	}
 
+	/**
+	 * Deduplicates calls by key. If a call for the specified key is in flight,
+	 * the returned call follows it instead of executing a new one, otherwise a
+	 * new shared call is built by the factory. Each returned call has its own
+	 * callbacks and must be executed as usual.
+	 * <p>
+	 * Retry configuration must be done on the call built by the factory, since
+	 * retrying a follower only replays the outcome of the shared call.
+	 *
+	 * @param key key identifying the work, calls of the same key must have the
+	 * same result type
+	 * @param factory builds the shared call when there is none for the key
+	 * @param <R> result type of the call
+	 * @return new AsyncCall completing with the outcome of the shared call
+	 */
+	public <R> AsyncCall<R> singleFlight(Object key, Supplier<AsyncCall<R>> factory) {
+		return singleFlight(key, 0L, factory);
+	}
+
+	/**
+	 * Deduplicates calls by key and caches successful results. If a call for
+	 * the specified key is in flight or succeeded less than {@code ttl}
+	 * milliseconds ago, the returned call follows it instead of executing a new
+	 * one, otherwise a new shared call is built by the factory. Failures are
+	 * never cached. Each returned call has its own callbacks and must be
+	 * executed as usual.
+	 * <p>
+	 * Retry configuration must be done on the call built by the factory, since
+	 * retrying a follower only replays the outcome of the shared call. When
+	 * several threads race for a new key, the factory may be called by each of
+	 * them but only one of the built calls is shared and executed.
+	 *
+	 * @param key key identifying the work, calls of the same key must have the
+	 * same result type
+	 * @param ttl duration in milliseconds during which a successful result is
+	 * reused, 0 to only share calls in flight
+	 * @param factory builds the shared call when there is none for the key
+	 * @param <R> result type of the call
+	 * @return new AsyncCall completing with the outcome of the shared call
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> AsyncCall<R> singleFlight(Object key, long ttl, Supplier<AsyncCall<R>> factory) {
+		ensureNotNull(key, "key");
+		ensurePositive(ttl, "ttl");
+		ensureNotNull(factory, "factory");
+
+		AsyncCall<?> flight = flights.get(key);
+		if(flight != null)
+			return ((AsyncCall<R>)flight).follow();
+
+		// built outside of the map so the factory doesn't hold its lock and an
+		// already done call can remove itself
+		AsyncCall<R> call = ensureNotNull(factory.get(), "call");
+		flight = flights.putIfAbsent(key, call);
+		if(flight != null) {
+			call.discard();
+			return ((AsyncCall<R>)flight).follow();
+		}
+
+		call.onDone(() -> {
+			if(ttl == 0L || call.isFailed())
+				flights.remove(key, call);
+			else
+				retryTimer.schedule(() -> flights.remove(key, call), ttl);
+		});
+		return call.follow();
+	}
+
+	/**
+	 * Forgets the shared call of the specified key, so that the next
+	 * {@link #singleFlight(Object, long, Supplier)} call builds a new one even if
+	 * the previous one is in flight or cached
+	 *
+	 * @param key key of the shared call
+	 */
+	public void invalidate(Object key) {
+		flights.remove(key);
+	}
+
 	public Logger getLogger() {
 		return logger;
 	}
@@ -165,7 +296,144 @@ public class AsyncCallManager {
 		return defaultRetryDelay;
 	}
 
+	/**
+	 * Submits the specified task to the executor after a delay, without keeping
+	 * any thread busy while waiting
+	 *
+	 * @param task task to execute
+	 * @param delay delay in milliseconds
+	 */
+	public void executeLater(Runnable task, long delay) {
+		executeLater(task, delay, Priority.NORMAL);
+	}
+
+	/**
+	 * Submits the specified task to the lane of its priority after a delay,
+	 * without keeping any thread busy while waiting
+	 *
+	 * @param task task to execute
+	 * @param delay delay in milliseconds
+	 * @param priority priority of the task
+	 */
+	public void executeLater(Runnable task, long delay, Priority priority) {
+		executeLater(task, delay, priority, null);
+	}
+
+	/**
+	 * Submits the specified task to the lane of its priority after a delay,
+	 * handing the exception to a callback if the task is rejected
+	 *
+	 * @param task task to execute
+	 * @param delay delay in milliseconds
+	 * @param priority priority of the task
+	 * @param onRejected callback receiving the rejection of the task, or null
+	 * to throw it to the caller or, after a delay, on the timer thread
+	 */
+	void executeLater(Runnable task,
+			long delay,
+			Priority priority,
+			Consumer<RuntimeException> onRejected) {
+		if(delay <= 0L)
+			execute(task, priority, onRejected);
+		else
+			retryTimer.schedule(() -> execute(task, priority, onRejected), delay);
+	}
+
+	private void execute(Runnable task, Priority priority, Consumer<RuntimeException> onRejected) {
+		if(onRejected == null) {
+			lanes.execute(task, priority);
+			return;
+		}
+
+		try {
+			lanes.execute(task, priority);
+		} catch(RuntimeException ex) {
+			onRejected.accept(ex);
+		}
+	}
+
+	/**
+	 * @return executor dispatching the calls by priority to the executor of
+	 * this manager
+	 */
+	public PriorityLaneExecutor getLanes() {
+		return lanes;
+	}
+
+	/**
+	 * Limits the amount of calls of a priority running at the same time
+	 *
+	 * @param priority priority of the calls
+	 * @param limit maximum amount of running calls of that priority
+	 */
+	public void setLaneLimit(Priority priority, int limit) {
+		lanes.setLimit(priority, limit);
+	}
+
+	/**
+	 * Limits the amount of calls running at the same time. Calls over the limit
+	 * wait in the lane of their priority and are started with weighted fairness.
+	 *
+	 * @param maxConcurrency maximum amount of running calls
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		lanes.setMaxConcurrency(maxConcurrency);
+	}
+
+	/**
+	 * Takes a retry from the retry budget of this manager
+	 *
+	 * @return true if a retry is allowed, otherwise false
+	 */
+	public boolean tryAcquireRetry() {
+		RetryBudget budget = retryBudget;
+		return budget == null || budget.tryAcquire();
+	}
+
+	public RetryBudget getRetryBudget() {
+		return retryBudget;
+	}
+
+	/**
+	 * @param retryBudget budget shared by the retries of all calls of this
+	 * manager, null for unlimited retries
+	 */
+	public void setRetryBudget(RetryBudget retryBudget) {
+		this.retryBudget = retryBudget;
+	}
+
+	public AsyncCallMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Sets the metrics collected for the calls executed from now on. Metrics
+	 * are not collected by default.
+	 *
+	 * @param metrics metrics to collect into, or null to stop collecting
+	 */
+	public void setMetrics(AsyncCallMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	public LeakDetector getLeakDetector() {
+		return leakDetector;
+	}
+
+	/**
+	 * Sets how many calls are checked for never being executed. Checking all
+	 * calls is useful in debug builds while production can sample rarely or
+	 * disable the detection entirely.
+	 *
+	 * @param samplingInterval 1 out of how many calls are tracked,
+	 * {@link LeakDetector#ALL} or {@link LeakDetector#DISABLED}
+	 */
+	public void setLeakSamplingInterval(int samplingInterval) {
+		leakDetector.setSamplingInterval(samplingInterval);
+	}
+
 	public void setLogger(Logger logger) {
 		this.logger = firstNonNull(logger, new NullLogger());
+		leakDetector.setLogger(this.logger);
 	}
 }
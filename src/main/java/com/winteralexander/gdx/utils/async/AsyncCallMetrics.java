@@ -0,0 +1,241 @@
+package com.winteralexander.gdx.utils.async;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Execution metrics of the calls of an {@link AsyncCallManager}, broken down by
+ * call site using the name of the calls. Collected once set on a manager with
+ * {@link AsyncCallManager#setMetrics(AsyncCallMetrics)} and meant to be polled
+ * periodically with {@link #snapshot()}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncCallMetrics {
+	private final ConcurrentHashMap<String, CallSite> callSites = new ConcurrentHashMap<>();
+
+	/**
+	 * @param name name of the call site, see {@link AsyncCall#name(String)}
+	 * @return metrics of the call site, created if missing
+	 */
+	public CallSite getCallSite(String name) {
+		ensureNotNull(name, "name");
+		return callSites.computeIfAbsent(name, CallSite::new);
+	}
+
+	/**
+	 * @return snapshots of the metrics of every call site
+	 */
+	public Array<CallSiteSnapshot> snapshot() {
+		Array<CallSiteSnapshot> snapshots = new Array<>(true, callSites.size());
+		for(CallSite callSite : callSites.values())
+			snapshots.add(callSite.snapshot());
+		return snapshots;
+	}
+
+	/**
+	 * Resets the metrics of all call sites
+	 */
+	public void reset() {
+		for(CallSite callSite : callSites.values())
+			callSite.reset();
+	}
+
+	/**
+	 * Counters and latencies of the calls of a single call site
+	 */
+	public static class CallSite {
+		private final String name;
+
+		private final LongAdder submitted = new LongAdder();
+		private final LongAdder started = new LongAdder();
+		private final LongAdder succeeded = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+		private final LongAdder cancelled = new LongAdder();
+		private final LongAdder retried = new LongAdder();
+		private final LongAdder exceptions = new LongAdder();
+
+		/**
+		 * Time between when a call is due to start and when it starts
+		 */
+		private final LatencyHistogram queueDelay = new LatencyHistogram();
+
+		/**
+		 * Time taken by the function of a call
+		 */
+		private final LatencyHistogram executionTime = new LatencyHistogram();
+
+		private CallSite(String name) {
+			this.name = name;
+		}
+
+		void onSubmit() {
+			submitted.increment();
+		}
+
+		void onStart(long queueDelayNanos) {
+			started.increment();
+			queueDelay.record(queueDelayNanos);
+		}
+
+		void onExecuted(long durationNanos, boolean threw) {
+			executionTime.record(durationNanos);
+			if(threw)
+				exceptions.increment();
+		}
+
+		void onRetry() {
+			retried.increment();
+		}
+
+		void onComplete(Exception failure) {
+			if(failure == null)
+				succeeded.increment();
+			else if(failure instanceof CancellationException)
+				cancelled.increment();
+			else
+				failed.increment();
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public CallSiteSnapshot snapshot() {
+			return new CallSiteSnapshot(name,
+					submitted.sum(),
+					started.sum(),
+					succeeded.sum(),
+					failed.sum(),
+					cancelled.sum(),
+					retried.sum(),
+					exceptions.sum(),
+					queueDelay.snapshot(),
+					executionTime.snapshot());
+		}
+
+		public void reset() {
+			submitted.reset();
+			started.reset();
+			succeeded.reset();
+			failed.reset();
+			cancelled.reset();
+			retried.reset();
+			exceptions.reset();
+			queueDelay.reset();
+			executionTime.reset();
+		}
+	}
+
+	/**
+	 * Immutable copy of the metrics of a call site
+	 */
+	public static class CallSiteSnapshot {
+		private final String name;
+		private final long submitted, started, succeeded, failed, cancelled, retried, exceptions;
+		private final LatencyHistogram.Snapshot queueDelay, executionTime;
+
+		private CallSiteSnapshot(String name,
+				long submitted,
+				long started,
+				long succeeded,
+				long failed,
+				long cancelled,
+				long retried,
+				long exceptions,
+				LatencyHistogram.Snapshot queueDelay,
+				LatencyHistogram.Snapshot executionTime) {
+			this.name = name;
+			this.submitted = submitted;
+			this.started = started;
+			this.succeeded = succeeded;
+			this.failed = failed;
+			this.cancelled = cancelled;
+			this.retried = retried;
+			this.exceptions = exceptions;
+			this.queueDelay = queueDelay;
+			this.executionTime = executionTime;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return amount of calls executed
+		 */
+		public long getSubmitted() {
+			return submitted;
+		}
+
+		/**
+		 * @return amount of attempts started, including retries
+		 */
+		public long getStarted() {
+			return started;
+		}
+
+		public long getSucceeded() {
+			return succeeded;
+		}
+
+		/**
+		 * @return amount of calls which completed with an exception after all
+		 * their retries
+		 */
+		public long getFailed() {
+			return failed;
+		}
+
+		public long getCancelled() {
+			return cancelled;
+		}
+
+		public long getRetried() {
+			return retried;
+		}
+
+		/**
+		 * @return amount of exceptions thrown by the calls, including the ones
+		 * which caused a retry
+		 */
+		public long getExceptions() {
+			return exceptions;
+		}
+
+		/**
+		 * @return time between when the calls were due to start and when they
+		 * started, in nanoseconds
+		 */
+		public LatencyHistogram.Snapshot getQueueDelay() {
+			return queueDelay;
+		}
+
+		/**
+		 * @return time taken by the functions of the calls, in nanoseconds
+		 */
+		public LatencyHistogram.Snapshot getExecutionTime() {
+			return executionTime;
+		}
+
+		@Override
+		public String toString() {
+			return name + ": submitted=" + submitted
+					+ ", started=" + started
+					+ ", succeeded=" + succeeded
+					+ ", failed=" + failed
+					+ ", cancelled=" + cancelled
+					+ ", retried=" + retried
+					+ ", exceptions=" + exceptions
+					+ ", queueDelay=[" + queueDelay
+					+ "], executionTime=[" + executionTime + "]";
+		}
+	}
+}
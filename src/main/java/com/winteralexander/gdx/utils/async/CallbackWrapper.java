@@ -9,6 +9,7 @@ import java.util.function.Consumer;
  *
  * @author Alexander Winter
  * @see GdxCallback#gdxWrapper
+ * @see FrameDeliveryQueue#getWrapper()
  */
 @FunctionalInterface
 public interface CallbackWrapper {
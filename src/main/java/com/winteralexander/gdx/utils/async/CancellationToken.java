@@ -0,0 +1,113 @@
+package com.winteralexander.gdx.utils.async;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.concurrent.CancellationException;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Token polled by long-running code to stop early once the work it is doing
+ * is no longer needed. Each {@link AsyncCall} has its own token, cancelled
+ * along with the call, which its body can retrieve with {@link #current()}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CancellationToken {
+	/**
+	 * Token which is never cancelled
+	 */
+	public static final CancellationToken NONE = new CancellationToken(false);
+
+	private static final ThreadLocal<CancellationToken> current = new ThreadLocal<>();
+
+	private final boolean cancellable;
+	private volatile boolean cancelled = false;
+	private Array<Runnable> listeners = null;
+
+	public CancellationToken() {
+		this(true);
+	}
+
+	private CancellationToken(boolean cancellable) {
+		this.cancellable = cancellable;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @throws CancellationException if this token is cancelled
+	 */
+	public void throwIfCancelled() throws CancellationException {
+		if(cancelled)
+			throw new CancellationException("Operation was cancelled");
+	}
+
+	/**
+	 * Registers a listener called once this token is cancelled, or immediately
+	 * if it already is. Useful to unblock operations which can't poll the
+	 * token, such as closing a socket.
+	 *
+	 * @param listener listener to call on cancellation
+	 */
+	public void onCancel(Runnable listener) {
+		ensureNotNull(listener, "listener");
+		if(!cancellable)
+			return;
+
+		synchronized(this) {
+			if(!cancelled) {
+				if(listeners == null)
+					listeners = new Array<>(false, 1);
+				listeners.add(listener);
+				return;
+			}
+		}
+		listener.run();
+	}
+
+	/**
+	 * Cancels this token and calls its listeners, does nothing if it is already
+	 * cancelled
+	 */
+	public void cancel() {
+		if(!cancellable)
+			return;
+
+		Array<Runnable> toNotify;
+		synchronized(this) {
+			if(cancelled)
+				return;
+			cancelled = true;
+			toNotify = listeners;
+			listeners = null;
+		}
+
+		if(toNotify != null)
+			for(int i = 0; i < toNotify.size; i++)
+				toNotify.get(i).run();
+	}
+
+	/**
+	 * @return token of the async call running on the current thread, or
+	 * {@link #NONE} if there is none
+	 */
+	public static CancellationToken current() {
+		CancellationToken token = current.get();
+		return token != null ? token : NONE;
+	}
+
+	/**
+	 * @param token token of the call starting on the current thread, or null
+	 * @return the previous token of the current thread
+	 */
+	static CancellationToken setCurrent(CancellationToken token) {
+		CancellationToken previous = current.get();
+		current.set(token);
+		return previous;
+	}
+}
@@ -0,0 +1,197 @@
+package com.winteralexander.gdx.utils.async;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+import static com.winteralexander.gdx.utils.Validation.ensureStrictlyPositive;
+
+/**
+ * Concurrent map of int keys to objects using open addressing. Like
+ * {@link ThreadSafeIntMap}, keys cannot be removed or remapped once added, but
+ * reads never take a lock and writes only lock one of the segments of the map.
+ * Null values are not supported.
+ * <p>
+ * Values are published after their key, so a reader either sees a complete
+ * entry or no entry at all. Tables are never modified in place when they grow,
+ * they are copied and swapped.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class ConcurrentIntMap<V> {
+	private final Segment<V>[] segments;
+	private final int segmentShift;
+	private final int segmentCapacity;
+
+	public ConcurrentIntMap() {
+		this(16, 64);
+	}
+
+	/**
+	 * @param concurrencyLevel amount of segments which can be written to at the
+	 * same time, rounded up to a power of 2
+	 * @param initialCapacity expected amount of entries
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentIntMap(int concurrencyLevel, int initialCapacity) {
+		ensureStrictlyPositive(concurrencyLevel, "concurrencyLevel");
+		ensureStrictlyPositive(initialCapacity, "initialCapacity");
+
+		int segmentCount = nextPowerOfTwo(concurrencyLevel);
+		this.segments = new Segment[segmentCount];
+		this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+		this.segmentCapacity = nextPowerOfTwo(Math.max(initialCapacity / segmentCount * 2, 4));
+
+		for(int i = 0; i < segmentCount; i++)
+			segments[i] = new Segment<>(new Table<>(segmentCapacity));
+	}
+
+	public V getOrInit(int key, V initValue) {
+		return computeIfAbsent(key, k -> initValue);
+	}
+
+	public V getOrInit(int key, Supplier<V> initValue) {
+		return computeIfAbsent(key, k -> initValue.get());
+	}
+
+	/**
+	 * Retrieves the value mapped to the specified key, or atomically maps the
+	 * value computed by the mapping function if there is none. The function is
+	 * called at most once per key.
+	 *
+	 * @param key key to look up
+	 * @param mapping function creating the value of a missing key, must not
+	 * return null
+	 * @return the value mapped to the key
+	 */
+	public V computeIfAbsent(int key, IntFunction<? extends V> mapping) {
+		int hash = hash(key);
+		Segment<V> segment = segmentFor(hash);
+
+		V value = segment.table.get(key, hash);
+		if(value != null)
+			return value;
+
+		synchronized(segment) {
+			value = segment.table.get(key, hash);
+			if(value != null)
+				return value;
+
+			value = ensureNotNull(mapping.apply(key), "value");
+
+			// mapping function may have modified this segment
+			Table<V> table = segment.table;
+			V existing = table.get(key, hash);
+			if(existing != null)
+				return existing;
+
+			if(table.size + 1 > table.threshold)
+				table = table.grow();
+
+			table.insert(key, hash, value);
+			segment.table = table;
+			return value;
+		}
+	}
+
+	public V getOrNull(int key) {
+		int hash = hash(key);
+		return segmentFor(hash).table.get(key, hash);
+	}
+
+	public boolean containsKey(int key) {
+		return getOrNull(key) != null;
+	}
+
+	/**
+	 * @return amount of entries in the map, only approximate while the map is
+	 * being written to
+	 */
+	public int size() {
+		int size = 0;
+		for(Segment<V> segment : segments)
+			size += segment.table.size;
+		return size;
+	}
+
+	public void clear() {
+		for(Segment<V> segment : segments) {
+			synchronized(segment) {
+				segment.table = new Table<>(segmentCapacity);
+			}
+		}
+	}
+
+	private Segment<V> segmentFor(int hash) {
+		return segments[segmentShift == 32 ? 0 : hash >>> segmentShift];
+	}
+
+	private static int hash(int key) {
+		int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int nextPowerOfTwo(int value) {
+		int power = Integer.highestOneBit(value);
+		return power < value ? power << 1 : power;
+	}
+
+	private static class Segment<V> {
+		private volatile Table<V> table;
+
+		public Segment(Table<V> table) {
+			this.table = table;
+		}
+	}
+
+	private static class Table<V> {
+		private final int[] keys;
+		private final AtomicReferenceArray<V> values;
+		private final int mask, threshold;
+		private int size = 0;
+
+		public Table(int capacity) {
+			keys = new int[capacity];
+			values = new AtomicReferenceArray<>(capacity);
+			mask = capacity - 1;
+			threshold = capacity * 3 / 4;
+		}
+
+		public V get(int key, int hash) {
+			for(int i = hash & mask; ; i = (i + 1) & mask) {
+				V value = values.get(i);
+				if(value == null)
+					return null;
+
+				if(keys[i] == key)
+					return value;
+			}
+		}
+
+		/**
+		 * Must be called while holding the lock of the segment
+		 */
+		public void insert(int key, int hash, V value) {
+			int i = hash & mask;
+			while(values.get(i) != null)
+				i = (i + 1) & mask;
+
+			keys[i] = key;
+			values.set(i, value);
+			size++;
+		}
+
+		public Table<V> grow() {
+			Table<V> table = new Table<>(keys.length << 1);
+			for(int i = 0; i < keys.length; i++) {
+				V value = values.get(i);
+				if(value != null)
+					table.insert(keys[i], hash(keys[i]), value);
+			}
+			return table;
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package com.winteralexander.gdx.utils.async;
+
+import com.winteralexander.gdx.utils.GdxUtil;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * Delivers callbacks to the main LibGDX thread in batches. All pending
+ * callbacks are drained by a single runnable which stops once the time budget
+ * of the frame is spent, carrying the rest over to the next frame. At least one
+ * callback is delivered each frame.
+ * <p>
+ * Queue nodes are pooled, so delivering a callback doesn't allocate once the
+ * queue has warmed up.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FrameDeliveryQueue {
+	private static final FrameDeliveryQueue defaultQueue = new FrameDeliveryQueue(4f, 1024);
+
+	private final Runnable drainTask = this::drain;
+	private final Executor frameExecutor;
+	private final int maxPooledNodes;
+	private volatile long budgetNanos;
+
+	// guarded by this
+	private Node head = null, tail = null, pool = null;
+	private int size = 0, pooledNodes = 0;
+	private boolean scheduled = false;
+
+	private final CallbackWrapper wrapper = new CallbackWrapper() {
+		@Override
+		public <T> Consumer<T> wrap(Consumer<T> consumer) {
+			GdxCallback<T> callback = consumer::accept;
+			return value -> {
+				if(GdxUtil.isRunning())
+					post(callback, value);
+			};
+		}
+	};
+
+	/**
+	 * @param budget time in milliseconds spent delivering callbacks each frame
+	 * @param maxPooledNodes maximum amount of queue nodes kept for reuse
+	 */
+	public FrameDeliveryQueue(float budget, int maxPooledNodes) {
+		this(budget, maxPooledNodes, GdxUtil::postRunnable);
+	}
+
+	/**
+	 * @param budget time in milliseconds spent delivering callbacks each frame
+	 * @param maxPooledNodes maximum amount of queue nodes kept for reuse
+	 * @param frameExecutor executor running its tasks on the next frame,
+	 * posting them to the main LibGDX thread by default
+	 */
+	public FrameDeliveryQueue(float budget, int maxPooledNodes, Executor frameExecutor) {
+		ensurePositive(maxPooledNodes, "maxPooledNodes");
+		ensureNotNull(frameExecutor, "frameExecutor");
+		setBudget(budget);
+		this.maxPooledNodes = maxPooledNodes;
+		this.frameExecutor = frameExecutor;
+	}
+
+	/**
+	 * Queues a callback to receive a value on the main LibGDX thread
+	 *
+	 * @param callback callback to call
+	 * @param value value to give to the callback
+	 * @param <T> type of the value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> void post(GdxCallback<T> callback, T value) {
+		ensureNotNull(callback, "callback");
+
+		boolean schedule;
+		synchronized(this) {
+			Node node = pool;
+			if(node != null) {
+				pool = node.next;
+				node.next = null;
+				pooledNodes--;
+			} else
+				node = new Node();
+
+			node.callback = (GdxCallback<Object>)callback;
+			node.value = value;
+
+			if(tail == null)
+				head = node;
+			else
+				tail.next = node;
+			tail = node;
+			size++;
+
+			schedule = !scheduled;
+			scheduled = true;
+		}
+
+		if(schedule)
+			frameExecutor.execute(drainTask);
+	}
+
+	private void drain() {
+		long deadline = System.nanoTime() + budgetNanos;
+		boolean empty = false;
+
+		try {
+			do {
+				GdxCallback<Object> callback;
+				Object value;
+
+				synchronized(this) {
+					Node node = head;
+					if(node == null) {
+						scheduled = false;
+						empty = true;
+						return;
+					}
+
+					head = node.next;
+					if(head == null)
+						tail = null;
+					size--;
+
+					callback = node.callback;
+					value = node.value;
+					free(node);
+				}
+
+				callback.receive(value);
+			} while(System.nanoTime() < deadline);
+		} finally {
+			// runnables posted while LibGDX runs them are run on the next frame
+			if(!empty)
+				frameExecutor.execute(drainTask);
+		}
+	}
+
+	/**
+	 * Must be called while holding the lock of this queue
+	 */
+	private void free(Node node) {
+		node.callback = null;
+		node.value = null;
+
+		if(pooledNodes >= maxPooledNodes) {
+			node.next = null;
+			return;
+		}
+
+		node.next = pool;
+		pool = node;
+		pooledNodes++;
+	}
+
+	/**
+	 * @return amount of callbacks waiting to be delivered
+	 */
+	public synchronized int getSize() {
+		return size;
+	}
+
+	/**
+	 * @param budget time in milliseconds spent delivering callbacks each frame
+	 */
+	public void setBudget(float budget) {
+		ensurePositive(budget, "budget");
+		this.budgetNanos = (long)(budget * 1_000_000f);
+	}
+
+	/**
+	 * @return wrapper of callbacks delivering them through this queue
+	 */
+	public CallbackWrapper getWrapper() {
+		return wrapper;
+	}
+
+	/**
+	 * @return queue used by {@link GdxCallback} and {@link GdxCallback#gdxWrapper}
+	 */
+	public static FrameDeliveryQueue getDefault() {
+		return defaultQueue;
+	}
+
+	private static class Node {
+		private GdxCallback<Object> callback;
+		private Object value;
+		private Node next;
+	}
+}
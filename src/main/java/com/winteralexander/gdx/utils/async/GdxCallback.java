@@ -8,6 +8,9 @@ import java.util.function.Consumer;
  * A callback functionnal interface meant to be called from
  * a thread and received in the main LibGDX thread
  * <p>
+ * Callbacks are delivered through the default {@link FrameDeliveryQueue}, so
+ * a burst of results is spread over several frames.
+ * <p>
  * Created on 2017-01-17.
  *
  * @author Alexander Winter
@@ -19,7 +22,7 @@ public interface GdxCallback<T> extends Consumer<T> {
 	@Override
 	default void accept(T value) {
 		if(GdxUtil.isRunning())
-			GdxUtil.postRunnable(() -> receive(value));
+			FrameDeliveryQueue.getDefault().post(this, value);
 	}
 
 	void receive(T t);
@@ -0,0 +1,170 @@
+package com.winteralexander.gdx.utils.async;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * Timer running delayed tasks from a single daemon thread using a hashed
+ * timing wheel. Scheduling is O(1) and the thread only wakes up once per tick
+ * while there are pending tasks, sleeping otherwise.
+ * <p>
+ * Tasks are executed on the timer thread and should therefore be short, usually
+ * handing the actual work to an {@link java.util.concurrent.Executor}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class HashedWheelTimer {
+	private final String name;
+	private final long tickNanos;
+
+	private final Timeout[] wheel;
+	private final int mask;
+
+	private final ConcurrentLinkedQueue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+	private final Object lock = new Object();
+	private Thread thread = null;
+
+	// only accessed from timer thread
+	private long startTime, tick;
+	private int scheduled = 0;
+
+	/**
+	 * Creates a HashedWheelTimer, the thread is only started when the first
+	 * task is scheduled
+	 *
+	 * @param name name of the timer thread
+	 * @param tickDuration precision of the timer, in milliseconds
+	 * @param wheelSize amount of buckets in the wheel, rounded up to a power of 2
+	 */
+	public HashedWheelTimer(String name, long tickDuration, int wheelSize) {
+		ensureNotNull(name, "name");
+		ensureStrictlyPositive(tickDuration, "tickDuration");
+		ensureStrictlyPositive(wheelSize, "wheelSize");
+
+		int size = Integer.highestOneBit(wheelSize);
+		if(size < wheelSize)
+			size <<= 1;
+
+		this.name = name;
+		this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+		this.wheel = new Timeout[size];
+		this.mask = size - 1;
+	}
+
+	/**
+	 * Schedules a task to be run on the timer thread after the specified delay
+	 *
+	 * @param task task to run
+	 * @param delay delay in milliseconds
+	 */
+	public void schedule(Runnable task, long delay) {
+		ensureNotNull(task, "task");
+		ensurePositive(delay, "delay");
+
+		pending.add(new Timeout(task, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay)));
+
+		synchronized(lock) {
+			if(thread == null) {
+				thread = new Thread(this::work, name);
+				thread.setDaemon(true);
+				thread.start();
+			} else
+				lock.notify();
+		}
+	}
+
+	private void work() {
+		startTime = System.nanoTime();
+		tick = 0;
+
+		while(true) {
+			transferPending();
+
+			if(scheduled == 0) {
+				synchronized(lock) {
+					while(pending.isEmpty()) {
+						try {
+							lock.wait();
+						} catch(InterruptedException ignored) {}
+					}
+				}
+				// wheel is empty, skip the buckets we slept through
+				tick = (System.nanoTime() - startTime) / tickNanos;
+				continue;
+			}
+
+			long deadline = startTime + (tick + 1) * tickNanos;
+			long sleep = deadline - System.nanoTime();
+			if(sleep > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleep);
+				} catch(InterruptedException ignored) {}
+				continue;
+			}
+
+			expire(wheel[(int)(tick & mask)], System.nanoTime());
+			tick++;
+		}
+	}
+
+	private void transferPending() {
+		Timeout timeout;
+		while((timeout = pending.poll()) != null) {
+			long ticks = Math.max((timeout.deadline - startTime) / tickNanos, tick);
+			timeout.rounds = (ticks - tick) / wheel.length;
+
+			int bucket = (int)(ticks & mask);
+			timeout.next = wheel[bucket];
+			wheel[bucket] = timeout;
+			scheduled++;
+		}
+	}
+
+	private void expire(Timeout head, long now) {
+		int bucket = (int)(tick & mask);
+		Timeout prev = null;
+		Timeout current = head;
+
+		while(current != null) {
+			Timeout next = current.next;
+
+			if(current.rounds <= 0 && current.deadline <= now) {
+				if(prev == null)
+					wheel[bucket] = next;
+				else
+					prev.next = next;
+				scheduled--;
+
+				try {
+					current.task.run();
+				} catch(Throwable ex) {
+					Thread thread = Thread.currentThread();
+					thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+				}
+			} else {
+				if(current.rounds > 0)
+					current.rounds--;
+				prev = current;
+			}
+
+			current = next;
+		}
+	}
+
+	private static class Timeout {
+		private final Runnable task;
+		private final long deadline;
+		private long rounds;
+		private Timeout next;
+
+		public Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+	}
+}
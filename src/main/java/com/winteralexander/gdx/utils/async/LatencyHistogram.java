@@ -0,0 +1,166 @@
+package com.winteralexander.gdx.utils.async;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.winteralexander.gdx.utils.Validation.ensureInRange;
+
+/**
+ * Thread-safe histogram of durations in nanoseconds. Buckets grow
+ * exponentially with 4 sub-buckets per power of 2, so percentiles are accurate
+ * to 25% over the whole range of a long. Recording a duration never allocates.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 2;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records a duration, negative durations are recorded as 0
+	 *
+	 * @param nanos duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		if(nanos < 0L)
+			nanos = 0L;
+
+		buckets.incrementAndGet(indexOf(nanos));
+		count.increment();
+		sum.add(nanos);
+
+		long current;
+		while(nanos > (current = max.get()))
+			if(max.compareAndSet(current, nanos))
+				break;
+	}
+
+	public void reset() {
+		for(int i = 0; i < BUCKET_COUNT; i++)
+			buckets.set(i, 0L);
+		count.reset();
+		sum.reset();
+		max.set(0L);
+	}
+
+	/**
+	 * Copies the current state of this histogram. Durations recorded while the
+	 * snapshot is taken may be partially included.
+	 *
+	 * @return snapshot of this histogram
+	 */
+	public Snapshot snapshot() {
+		long[] copy = new long[BUCKET_COUNT];
+		for(int i = 0; i < BUCKET_COUNT; i++)
+			copy[i] = buckets.get(i);
+		return new Snapshot(copy, count.sum(), sum.sum(), max.get());
+	}
+
+	private static int indexOf(long nanos) {
+		if(nanos < SUB_BUCKETS)
+			return (int)nanos;
+
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int subBucket = (int)(nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long upperBoundOf(int index) {
+		if(index < SUB_BUCKETS)
+			return index;
+
+		int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long subBucket = index % SUB_BUCKETS;
+		return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1L;
+	}
+
+	/**
+	 * Immutable copy of a {@link LatencyHistogram}
+	 */
+	public static class Snapshot {
+		private final long[] buckets;
+		private final long count, sum, max;
+
+		private Snapshot(long[] buckets, long count, long sum, long max) {
+			this.buckets = buckets;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return mean duration in nanoseconds, 0 if empty
+		 */
+		public long getMean() {
+			return count == 0L ? 0L : sum / count;
+		}
+
+		/**
+		 * @return sum of all durations recorded in nanoseconds
+		 */
+		public long getTotal() {
+			return sum;
+		}
+
+		/**
+		 * @return longest duration recorded in nanoseconds
+		 */
+		public long getMax() {
+			return max;
+		}
+
+		/**
+		 * Estimates a percentile of the recorded durations, rounded up to the
+		 * upper bound of its bucket
+		 *
+		 * @param percentile percentile to estimate, between 0 and 1
+		 * @return estimated duration in nanoseconds, 0 if empty
+		 */
+		public long getPercentile(float percentile) {
+			ensureInRange(percentile, 0f, 1f, "percentile");
+
+			long total = 0L;
+			for(long bucket : buckets)
+				total += bucket;
+
+			if(total == 0L)
+				return 0L;
+
+			long rank = Math.max(1L, (long)Math.ceil(total * (double)percentile));
+			long seen = 0L;
+			for(int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if(seen >= rank)
+					return Math.min(upperBoundOf(i), max);
+			}
+			return max;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + count
+					+ ", mean=" + toMillis(getMean())
+					+ "ms, p50=" + toMillis(getPercentile(0.5f))
+					+ "ms, p99=" + toMillis(getPercentile(0.99f))
+					+ "ms, max=" + toMillis(max) + "ms";
+		}
+
+		private static float toMillis(long nanos) {
+			return nanos / (float)TimeUnit.MILLISECONDS.toNanos(1L);
+		}
+	}
+}
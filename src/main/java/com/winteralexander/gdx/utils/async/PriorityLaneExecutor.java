@@ -0,0 +1,283 @@
+package com.winteralexander.gdx.utils.async;
+
+import com.winteralexander.gdx.utils.async.AsyncCall.Priority;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * {@link Executor} queueing tasks in one lane per {@link Priority} and handing
+ * them to another executor. Lanes are served with smooth weighted round-robin,
+ * so a lane of weight 4 is served 4 times as often as a lane of weight 1 while
+ * both have tasks waiting. A lane whose oldest task has waited longer than the
+ * starvation threshold is served first regardless of its weight.
+ * <p>
+ * Tasks only wait in their lane when the maximum concurrency or the limit of
+ * their lane is reached, otherwise they are handed to the executor right away.
+ * While no limit is set, tasks are handed to the executor directly without
+ * being counted as running. A task rejected by the executor is dropped and the
+ * rejection is thrown.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class PriorityLaneExecutor implements Executor {
+	private final Executor executor;
+	private final Lane[] lanes;
+
+	private int maxConcurrency;
+	private long starvationNanos = TimeUnit.SECONDS.toNanos(1L);
+	private int running = 0;
+
+	/**
+	 * True while neither the maximum concurrency nor any lane limit is set, in
+	 * which case tasks skip the lanes
+	 */
+	private volatile boolean bypass;
+
+	/**
+	 * True on the thread draining the lanes, so that tasks run inline by the
+	 * executor don't drain them recursively
+	 */
+	private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> false);
+
+	/**
+	 * @param executor executor running the tasks
+	 * @param maxConcurrency maximum amount of tasks running at the same time in
+	 * all lanes
+	 */
+	public PriorityLaneExecutor(Executor executor, int maxConcurrency) {
+		ensureNotNull(executor, "executor");
+		ensureStrictlyPositive(maxConcurrency, "maxConcurrency");
+		this.executor = executor;
+		this.maxConcurrency = maxConcurrency;
+
+		Priority[] priorities = Priority.values();
+		this.lanes = new Lane[priorities.length];
+		for(int i = 0; i < priorities.length; i++)
+			lanes[i] = new Lane(priorities[i].getDefaultWeight());
+		updateBypass();
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		execute(task, Priority.NORMAL);
+	}
+
+	/**
+	 * Executes a task in the lane of the specified priority
+	 *
+	 * @param task task to execute
+	 * @param priority priority of the task
+	 */
+	public void execute(Runnable task, Priority priority) {
+		ensureNotNull(task, "task");
+		ensureNotNull(priority, "priority");
+
+		if(bypass) {
+			executor.execute(task);
+			return;
+		}
+
+		synchronized(this) {
+			lanes[priority.ordinal()].queue.add(new QueuedTask(task, System.nanoTime()));
+		}
+		drain();
+	}
+
+	/**
+	 * Hands the tasks that can run to the executor. If the executor throws, the
+	 * task it rejected is dropped, as when the lanes are bypassed, and the
+	 * exception is thrown to the caller, which is not necessarily the thread
+	 * that queued the task. Remaining tasks stay queued for the next drain.
+	 */
+	private void drain() {
+		if(draining.get())
+			return; // the drain further up the stack picks up the remaining tasks
+
+		draining.set(true);
+		try {
+			while(true) {
+				Lane lane;
+				QueuedTask task;
+				synchronized(this) {
+					lane = nextLane();
+					if(lane == null)
+						return;
+
+					task = lane.queue.poll();
+					lane.running++;
+					running++;
+				}
+
+				try {
+					executor.execute(() -> run(lane, task.task));
+				} catch(RuntimeException ex) {
+					synchronized(this) {
+						lane.running--;
+						running--;
+					}
+					throw ex;
+				}
+			}
+		} finally {
+			draining.set(false);
+		}
+	}
+
+	private void run(Lane lane, Runnable task) {
+		try {
+			task.run();
+		} finally {
+			synchronized(this) {
+				lane.running--;
+				running--;
+			}
+			drain();
+		}
+	}
+
+	/**
+	 * Must be called while holding the lock of this executor
+	 *
+	 * @return lane to take the next task from, or null if no task can run
+	 */
+	private Lane nextLane() {
+		if(running >= maxConcurrency)
+			return null;
+
+		long now = System.nanoTime();
+		Lane starving = null;
+		long longestWait = starvationNanos;
+		for(Lane lane : lanes) {
+			if(lane.queue.isEmpty() || lane.running >= lane.limit)
+				continue;
+
+			long wait = now - lane.queue.peek().enqueueTime;
+			if(wait >= longestWait) {
+				starving = lane;
+				longestWait = wait;
+			}
+		}
+
+		if(starving != null)
+			return starving;
+
+		Lane best = null;
+		int totalWeight = 0;
+		for(Lane lane : lanes) {
+			if(lane.queue.isEmpty() || lane.running >= lane.limit)
+				continue;
+
+			lane.currentWeight += lane.weight;
+			totalWeight += lane.weight;
+			if(best == null || lane.currentWeight > best.currentWeight)
+				best = lane;
+		}
+
+		if(best != null)
+			best.currentWeight -= totalWeight;
+		return best;
+	}
+
+	/**
+	 * @param priority priority of the lane
+	 * @param weight relative share of the executor given to the lane when other
+	 * lanes also have waiting tasks
+	 */
+	public synchronized void setWeight(Priority priority, int weight) {
+		ensureNotNull(priority, "priority");
+		ensureStrictlyPositive(weight, "weight");
+		lanes[priority.ordinal()].weight = weight;
+	}
+
+	/**
+	 * Limits the amount of tasks of a lane running at the same time
+	 *
+	 * @param priority priority of the lane
+	 * @param limit maximum amount of running tasks of the lane
+	 */
+	public void setLimit(Priority priority, int limit) {
+		ensureNotNull(priority, "priority");
+		ensureStrictlyPositive(limit, "limit");
+		synchronized(this) {
+			lanes[priority.ordinal()].limit = limit;
+			updateBypass();
+		}
+		drain();
+	}
+
+	/**
+	 * @param maxConcurrency maximum amount of tasks running at the same time in
+	 * all lanes
+	 */
+	public void setMaxConcurrency(int maxConcurrency) {
+		ensureStrictlyPositive(maxConcurrency, "maxConcurrency");
+		synchronized(this) {
+			this.maxConcurrency = maxConcurrency;
+			updateBypass();
+		}
+		drain();
+	}
+
+	/**
+	 * Must be called while holding the lock of this executor
+	 */
+	private void updateBypass() {
+		boolean unlimited = maxConcurrency == Integer.MAX_VALUE;
+		for(Lane lane : lanes)
+			unlimited &= lane.limit == Integer.MAX_VALUE;
+		bypass = unlimited;
+	}
+
+	/**
+	 * @param starvationThreshold time in milliseconds after which a waiting
+	 * task is run before any other task
+	 */
+	public synchronized void setStarvationThreshold(long starvationThreshold) {
+		ensurePositive(starvationThreshold, "starvationThreshold");
+		this.starvationNanos = TimeUnit.MILLISECONDS.toNanos(starvationThreshold);
+	}
+
+	public synchronized int getQueueSize(Priority priority) {
+		return lanes[priority.ordinal()].queue.size();
+	}
+
+	/**
+	 * @param priority priority of the lane
+	 * @return amount of running tasks of the lane, not counting the tasks
+	 * started while no limit was set
+	 */
+	public synchronized int getRunningCount(Priority priority) {
+		return lanes[priority.ordinal()].running;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	private static class Lane {
+		private final ArrayDeque<QueuedTask> queue = new ArrayDeque<>();
+		private int weight, currentWeight = 0;
+		private int limit = Integer.MAX_VALUE;
+		private int running = 0;
+
+		public Lane(int weight) {
+			this.weight = weight;
+		}
+	}
+
+	private static class QueuedTask {
+		private final Runnable task;
+		private final long enqueueTime;
+
+		public QueuedTask(Runnable task, long enqueueTime) {
+			this.task = task;
+			this.enqueueTime = enqueueTime;
+		}
+	}
+}
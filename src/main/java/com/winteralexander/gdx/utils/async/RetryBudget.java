@@ -0,0 +1,51 @@
+package com.winteralexander.gdx.utils.async;
+
+import static com.winteralexander.gdx.utils.Validation.ensurePositive;
+import static com.winteralexander.gdx.utils.Validation.ensureStrictlyPositive;
+
+/**
+ * Token bucket limiting the amount of retries made by all the calls of an
+ * {@link AsyncCallManager}. Each retry consumes a token and tokens are refilled
+ * at a constant rate, so a failing dependency cannot be flooded with retries.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class RetryBudget {
+	private final float maxTokens;
+	private final float tokensPerMilli;
+
+	private float tokens;
+	private long lastRefill;
+
+	/**
+	 * @param maxRetries maximum amount of retries that can be done in a burst
+	 * @param retriesPerSecond rate at which retries are allowed in the long run
+	 */
+	public RetryBudget(int maxRetries, float retriesPerSecond) {
+		ensureStrictlyPositive(maxRetries, "maxRetries");
+		ensurePositive(retriesPerSecond, "retriesPerSecond");
+		this.maxTokens = maxRetries;
+		this.tokensPerMilli = retriesPerSecond / 1_000f;
+		this.tokens = maxRetries;
+		this.lastRefill = System.currentTimeMillis();
+	}
+
+	/**
+	 * Takes a retry from this budget if there is any left
+	 *
+	 * @return true if the retry is allowed, false if the budget is exhausted
+	 */
+	public synchronized boolean tryAcquire() {
+		long now = System.currentTimeMillis();
+		tokens = Math.min(maxTokens, tokens + (now - lastRefill) * tokensPerMilli);
+		lastRefill = now;
+
+		if(tokens < 1f)
+			return false;
+
+		tokens--;
+		return true;
+	}
+}
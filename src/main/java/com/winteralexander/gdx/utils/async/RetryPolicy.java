@@ -0,0 +1,74 @@
+package com.winteralexander.gdx.utils.async;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * Decides how long an {@link AsyncCall} waits before each retry attempt and
+ * when it should stop retrying
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@FunctionalInterface
+public interface RetryPolicy {
+	/**
+	 * Computes the delay before the specified retry attempt
+	 *
+	 * @param attempt retry attempt, starting at 1 for the first retry
+	 * @return delay in milliseconds, or a negative value to stop retrying
+	 */
+	long getDelay(int attempt);
+
+	/**
+	 * @param delay delay in milliseconds between each attempt
+	 * @return policy always retrying after the same delay
+	 */
+	static RetryPolicy fixed(long delay) {
+		ensurePositive(delay, "delay");
+		return attempt -> delay;
+	}
+
+	/**
+	 * Exponential backoff with proportional jitter. The delay before attempt n
+	 * is {@code min(maxDelay, initialDelay * multiplier^(n-1))}, from which a
+	 * random fraction of up to {@code jitter} is removed so that calls failing
+	 * together don't all retry at the same time.
+	 *
+	 * @param initialDelay delay before the first retry, in milliseconds
+	 * @param maxDelay maximum delay between two retries, in milliseconds
+	 * @param multiplier growth factor of the delay between each attempt
+	 * @param jitter fraction of the delay which is randomized, between 0 and 1
+	 * @return exponential backoff policy
+	 */
+	static RetryPolicy exponential(long initialDelay,
+			long maxDelay,
+			float multiplier,
+			float jitter) {
+		ensurePositive(initialDelay, "initialDelay");
+		ensurePositive(maxDelay, "maxDelay");
+		ensureInRange(multiplier, 1f, Float.MAX_VALUE, "multiplier");
+		ensureInRange(jitter, 0f, 1f, "jitter");
+
+		return attempt -> {
+			double delay = Math.min(maxDelay, initialDelay * Math.pow(multiplier, attempt - 1));
+			if(jitter > 0f)
+				delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+			return (long)delay;
+		};
+	}
+
+	/**
+	 * Exponential backoff doubling the delay at every attempt with 50% jitter
+	 *
+	 * @param initialDelay delay before the first retry, in milliseconds
+	 * @param maxDelay maximum delay between two retries, in milliseconds
+	 * @return exponential backoff policy
+	 * @see #exponential(long, long, float, float)
+	 */
+	static RetryPolicy exponential(long initialDelay, long maxDelay) {
+		return exponential(initialDelay, maxDelay, 2f, 0.5f);
+	}
+}
@@ -0,0 +1,290 @@
+package com.winteralexander.gdx.utils.async;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * {@link Executor} that runs its tasks on a pool of reusable worker threads fed
+ * by a bounded queue. The pool can be fixed (minWorkers == maxWorkers) or
+ * elastic, in which case extra workers are started when no worker is idle and
+ * are retired after staying idle for keepAlive milliseconds.
+ * <p>
+ * When the queue is full, the {@link SaturationPolicy} decides what happens to
+ * the submitted task. Workers are daemon threads, call {@link #shutdown()} to
+ * stop them once the queued tasks are done.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class WorkerPoolExecutor implements Executor {
+	/**
+	 * Task queued on shutdown to wake up an idle worker, which queues it again
+	 * for the next one before terminating
+	 */
+	private static final Runnable WAKE_UP = () -> {};
+
+	private final String name;
+	private final int minWorkers, maxWorkers;
+	private final long keepAlive;
+
+	private final BlockingQueue<Runnable> queue;
+	private final SaturationPolicy policy;
+	private final Consumer<Runnable> rejectionCallback;
+
+	private final AtomicInteger workerCount = new AtomicInteger(0),
+			idleCount = new AtomicInteger(0);
+
+	private volatile boolean shutdown = false;
+
+	/**
+	 * Creates a fixed size WorkerPoolExecutor without rejection callback, so
+	 * tasks rejected by the policy or submitted after shutdown throw a
+	 * {@link RejectedExecutionException} and dropped tasks are discarded
+	 *
+	 * @param name name of the worker threads
+	 * @param workers amount of worker threads
+	 * @param queueCapacity maximum amount of tasks waiting for a worker
+	 * @param policy behavior when the queue is full
+	 */
+	public WorkerPoolExecutor(String name,
+			int workers,
+			int queueCapacity,
+			SaturationPolicy policy) {
+		this(name, workers, workers, 60_000L, queueCapacity, policy, null);
+	}
+
+	/**
+	 * Creates a WorkerPoolExecutor
+	 *
+	 * @param name name of the worker threads
+	 * @param minWorkers amount of worker threads always kept alive
+	 * @param maxWorkers maximum amount of worker threads
+	 * @param keepAlive time in milliseconds before an idle extra worker retires
+	 * @param queueCapacity maximum amount of tasks waiting for a worker
+	 * @param policy behavior when the queue is full
+	 * @param rejectionCallback callback receiving rejected or dropped tasks, if
+	 * null rejected tasks throw a {@link RejectedExecutionException} and
+	 * dropped tasks are silently discarded
+	 */
+	public WorkerPoolExecutor(String name,
+			int minWorkers,
+			int maxWorkers,
+			long keepAlive,
+			int queueCapacity,
+			SaturationPolicy policy,
+			Consumer<Runnable> rejectionCallback) {
+		ensureNotNull(name, "name");
+		ensurePositive(minWorkers, "minWorkers");
+		ensureStrictlyPositive(maxWorkers, "maxWorkers");
+		ensureStrictlyPositive(keepAlive, "keepAlive");
+		ensureStrictlyPositive(queueCapacity, "queueCapacity");
+		ensureNotNull(policy, "policy");
+
+		if(minWorkers > maxWorkers)
+			throw new IllegalArgumentException("minWorkers (" + minWorkers + ") cannot be "
+					+ "greater than maxWorkers (" + maxWorkers + ")");
+
+		this.name = name;
+		this.minWorkers = minWorkers;
+		this.maxWorkers = maxWorkers;
+		this.keepAlive = keepAlive;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.policy = policy;
+		this.rejectionCallback = rejectionCallback;
+
+		for(int i = 0; i < minWorkers; i++)
+			addWorker(null);
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		ensureNotNull(command, "command");
+
+		if(shutdown) {
+			reject(command);
+			return;
+		}
+
+		if(queue.offer(command)) {
+			if(idleCount.get() == 0)
+				addWorker(null);
+			return;
+		}
+
+		if(addWorker(command))
+			return;
+
+		switch(policy) {
+			case BLOCK:
+				try {
+					queue.put(command);
+				} catch(InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					reject(command);
+				}
+				break;
+
+			case CALLER_RUNS:
+				command.run();
+				break;
+
+			case DROP_OLDEST:
+				while(!queue.offer(command)) {
+					Runnable oldest = queue.poll();
+					if(oldest != null && rejectionCallback != null)
+						rejectionCallback.accept(oldest);
+				}
+				break;
+
+			case REJECT:
+				reject(command);
+				break;
+		}
+	}
+
+	/**
+	 * Stops accepting new tasks. Tasks already queued are still executed, after
+	 * which the workers terminate.
+	 */
+	public void shutdown() {
+		shutdown = true;
+
+		// idle workers would otherwise only notice once their keepAlive is over
+		if(idleCount.get() > 0)
+			queue.offer(WAKE_UP);
+	}
+
+	private void reject(Runnable command) {
+		if(rejectionCallback == null)
+			throw new RejectedExecutionException("Task rejected by " + name);
+
+		rejectionCallback.accept(command);
+	}
+
+	private boolean addWorker(Runnable firstTask) {
+		while(true) {
+			int count = workerCount.get();
+			if(count >= maxWorkers)
+				return false;
+
+			if(workerCount.compareAndSet(count, count + 1))
+				break;
+		}
+
+		Thread thread = new Thread(() -> work(firstTask), name);
+		thread.setPriority(Thread.MIN_PRIORITY);
+		thread.setDaemon(true);
+		thread.start();
+		return true;
+	}
+
+	private void work(Runnable firstTask) {
+		Runnable task = firstTask;
+
+		while(true) {
+			if(task == WAKE_UP) {
+				// tasks queued before the shutdown were taken before the wake-up
+				if(workerCount.decrementAndGet() > 0) {
+					queue.offer(WAKE_UP);
+					if(workerCount.get() == 0)
+						queue.remove(WAKE_UP);
+				}
+				return;
+			}
+
+			if(task != null) {
+				try {
+					task.run();
+				} catch(Throwable ex) {
+					Thread thread = Thread.currentThread();
+					thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+				}
+			}
+
+			if(shutdown && queue.isEmpty()) {
+				workerCount.decrementAndGet();
+				return;
+			}
+
+			idleCount.incrementAndGet();
+			try {
+				// checked after becoming idle, so either this worker sees the
+				// shutdown or the shutdown sees this worker as idle
+				task = shutdown ? queue.poll() : queue.poll(keepAlive, TimeUnit.MILLISECONDS);
+			} catch(InterruptedException ex) {
+				task = null;
+			} finally {
+				idleCount.decrementAndGet();
+			}
+
+			if(task == null && tryRetire()) {
+				// a task may have been queued while this worker still counted as
+				// alive but no longer as idle
+				if(!queue.isEmpty())
+					addWorker(null);
+				return;
+			}
+		}
+	}
+
+	private boolean tryRetire() {
+		while(true) {
+			int count = workerCount.get();
+			if(count <= minWorkers && !shutdown)
+				return false;
+
+			if(workerCount.compareAndSet(count, count - 1))
+				return true;
+		}
+	}
+
+	/**
+	 * @return amount of worker threads currently alive
+	 */
+	public int getWorkerCount() {
+		return workerCount.get();
+	}
+
+	/**
+	 * @return amount of tasks waiting for a worker
+	 */
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	/**
+	 * Behavior of a {@link WorkerPoolExecutor} when a task is submitted while
+	 * its queue is full and no more workers can be started
+	 */
+	public enum SaturationPolicy {
+		/**
+		 * Blocks the submitting thread until there is room in the queue
+		 */
+		BLOCK,
+		/**
+		 * Runs the task directly on the submitting thread
+		 */
+		CALLER_RUNS,
+		/**
+		 * Discards the oldest queued task to make room for the new one
+		 */
+		DROP_OLDEST,
+		/**
+		 * Hands the task to the rejection callback, or throws a
+		 * {@link RejectedExecutionException} if there is none
+		 */
+		REJECT
+	}
+}
@@ -1,14 +1,20 @@
 package com.winteralexander.gdx.utils.error;
 
-import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Queue;
 
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+import static com.winteralexander.gdx.utils.Validation.ensureStrictlyPositive;
 import static com.winteralexander.gdx.utils.error.ExceptionUtil.appendCause;
-import static com.winteralexander.gdx.utils.error.ExceptionUtil.getDepth;
 
 /**
  * Keeps your stacktraces complete!
  * <p>
+ * Trackers are kept per thread, so entering and exiting trackers never
+ * contends with other threads. How much is captured when cutting a tracker is
+ * controlled by the {@link CaptureMode}.
+ * <p>
  * Created on 2018-07-25.
  *
  * @author Alexander Winter
@@ -16,53 +22,112 @@ import static com.winteralexander.gdx.utils.error.ExceptionUtil.getDepth;
 public class StackTracker {
 	private static final int MAX_DEPTH = 50;
 
-	private static final ObjectMap<Thread, Queue<Tracker>> trackers = new ObjectMap<>();
+	private static final ThreadLocal<Queue<Tracker>> trackers = ThreadLocal.withInitial(Queue::new);
+
+	private static volatile CaptureMode captureMode = CaptureMode.ALWAYS;
+	private static volatile int samplingInterval = 100;
 
 	public static Tracker cut(String name) {
+		CaptureMode mode = captureMode;
+
+		if(mode == CaptureMode.OFF)
+			return new Tracker(name, (TrackedStackTrace)null);
+
+		Queue<Tracker> stack = trackers.get();
+		Tracker parent = stack.size > 0 ? stack.last() : null;
+
+		if(parent != null && parent.getDepth() >= MAX_DEPTH)
+			throw new RuntimeException("Reached maximum stack trace depth", parent.get());
+
+		if(mode == CaptureMode.LAZY
+				|| mode == CaptureMode.SAMPLED
+				&& ThreadLocalRandom.current().nextInt(samplingInterval) != 0)
+			return new Tracker(name, parent);
+
 		TrackedStackTrace ex = new TrackedStackTrace("Exception in " + name);
 		appendFullStack(ex);
-		if(getDepth(ex) > MAX_DEPTH)
-			throw new RuntimeException("Reached maximum stack trace depth", ex);
-
 		return new Tracker(name, ex);
 	}
 
-	public static synchronized void enter(Tracker tracker) {
-		Thread thread = Thread.currentThread();
-
-		if(!trackers.containsKey(thread))
-			trackers.put(thread, new Queue<>());
-
-		trackers.get(thread).addLast(tracker);
+	public static void enter(Tracker tracker) {
+		trackers.get().addLast(tracker);
 	}
 
-	public static synchronized void exit(Tracker tracker) {
-		Thread thread = Thread.currentThread();
+	public static void exit(Tracker tracker) {
+		Queue<Tracker> stack = trackers.get();
 
-		if(!trackers.containsKey(thread) || trackers.get(thread).size == 0)
+		if(stack.size == 0)
 			throw new IllegalStateException("Not tracked");
 
-		if(trackers.get(thread).last() != tracker)
+		if(stack.last() != tracker)
 			throw new IllegalArgumentException("Invalid tracker");
 
-		trackers.get(thread).removeLast();
+		stack.removeLast();
 	}
 
-	public static synchronized void appendFullStack(Throwable ex) {
-		Thread thread = Thread.currentThread();
+	public static void appendFullStack(Throwable ex) {
+		Queue<Tracker> stack = trackers.get();
 
-		if(!trackers.containsKey(thread) || trackers.get(thread).size == 0)
+		if(stack.size == 0)
 			return; // not tracked
 
-		appendCause(ex, trackers.get(thread).last().get());
+		TrackedStackTrace trace = stack.last().get();
+		if(trace != null)
+			appendCause(ex, trace);
 	}
 
-	public static synchronized String getCurrentTrackerName() {
-		Thread thread = Thread.currentThread();
+	public static String getCurrentTrackerName() {
+		Queue<Tracker> stack = trackers.get();
 
-		if(!trackers.containsKey(thread) || trackers.get(thread).size == 0)
+		if(stack.size == 0)
 			return null; // not tracked
 
-		return trackers.get(thread).last().getName();
+		return stack.last().getName();
+	}
+
+	public static CaptureMode getCaptureMode() {
+		return captureMode;
+	}
+
+	public static void setCaptureMode(CaptureMode captureMode) {
+		ensureNotNull(captureMode, "captureMode");
+		StackTracker.captureMode = captureMode;
+	}
+
+	public static int getSamplingInterval() {
+		return samplingInterval;
+	}
+
+	/**
+	 * @param samplingInterval 1 out of how many trackers capture their stack in
+	 * {@link CaptureMode#SAMPLED} mode
+	 */
+	public static void setSamplingInterval(int samplingInterval) {
+		ensureStrictlyPositive(samplingInterval, "samplingInterval");
+		StackTracker.samplingInterval = samplingInterval;
+	}
+
+	/**
+	 * Defines what is captured when cutting a {@link Tracker}
+	 */
+	public enum CaptureMode {
+		/**
+		 * Captures the full stack every time a tracker is cut
+		 */
+		ALWAYS,
+		/**
+		 * Captures the full stack for 1 out of every sampling interval trackers,
+		 * the others behave as {@link #LAZY}
+		 */
+		SAMPLED,
+		/**
+		 * Captures nothing when cutting, the chain of tracker names is only
+		 * built when an exception is dispatched
+		 */
+		LAZY,
+		/**
+		 * Doesn't track anything
+		 */
+		OFF
 	}
 }
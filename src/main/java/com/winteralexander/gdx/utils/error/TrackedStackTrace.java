@@ -12,4 +12,14 @@ public class TrackedStackTrace extends Throwable {
 	public TrackedStackTrace(String message) {
 		super(message);
 	}
+
+	/**
+	 * @param message message of the stack trace
+	 * @param cause stack trace this one was created in, can be null
+	 * @param captureStack false to skip capturing the current stack, which is
+	 * the expensive part of creating a throwable
+	 */
+	public TrackedStackTrace(String message, TrackedStackTrace cause, boolean captureStack) {
+		super(message, cause, false, captureStack);
+	}
 }
@@ -9,18 +9,55 @@ package com.winteralexander.gdx.utils.error;
  */
 public class Tracker {
 	private final String name;
-	private final TrackedStackTrace ex;
+	private final Tracker parent;
+	private final int depth;
+	private final boolean lazy;
+
+	private volatile TrackedStackTrace ex;
 
 	public Tracker(String name, TrackedStackTrace ex) {
 		this.name = name;
+		this.parent = null;
+		this.depth = ex != null ? ExceptionUtil.getDepth(ex) : 0;
+		this.lazy = false;
 		this.ex = ex;
 	}
 
+	/**
+	 * Creates a tracker which only builds its stack trace when it is requested,
+	 * from its name and the trackers it was created in. The stack trace doesn't
+	 * contain the frames at the point the tracker was created.
+	 *
+	 * @param name name of the tracker
+	 * @param parent tracker in which this tracker was created, can be null
+	 */
+	public Tracker(String name, Tracker parent) {
+		this.name = name;
+		this.parent = parent;
+		this.depth = parent != null ? parent.depth + 1 : 0;
+		this.lazy = true;
+		this.ex = null;
+	}
+
 	public String getName() {
 		return name;
 	}
 
+	/**
+	 * @return amount of trackers this tracker was created in
+	 */
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * @return stack trace of this tracker, or null if it isn't tracking any
+	 */
 	public TrackedStackTrace get() {
+		if(ex == null && lazy)
+			ex = new TrackedStackTrace("Exception in " + name,
+					parent != null ? parent.get() : null,
+					false);
 		return ex;
 	}
 }
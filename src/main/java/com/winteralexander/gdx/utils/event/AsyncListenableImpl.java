@@ -0,0 +1,347 @@
+package com.winteralexander.gdx.utils.event;
+
+import com.winteralexander.gdx.utils.async.CallbackWrapper;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * Thread-safe {@link Listenable} delivering its events asynchronously. Each
+ * listener has its own bounded queue drained on the {@link Executor} or
+ * {@link CallbackWrapper} it subscribed with, so triggering an event never
+ * blocks on slow listeners, only enqueues it.
+ * <p>
+ * A listener receives its events in the order they were triggered and never
+ * receives two events at the same time, but different listeners receive them
+ * independently of each other. When the queue of a listener is full, its
+ * {@link OverflowPolicy} decides what happens to the new event. Exceptions
+ * thrown by a listener are passed to the uncaught exception handler of the
+ * thread delivering the event and don't stop the delivery of the next events.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncListenableImpl<L> implements Listenable<L> {
+	/**
+	 * Maximum amount of events delivered to a listener before letting the
+	 * other tasks of its executor run
+	 */
+	private static final int BATCH_SIZE = 64;
+
+	private static final Subscription<?>[] EMPTY = new Subscription<?>[0];
+
+	private final Executor executor;
+	private final int capacity;
+	private final OverflowPolicy policy;
+
+	private volatile Subscription<L>[] subscriptions = empty();
+
+	/**
+	 * @param executor executor delivering the events to listeners added
+	 * without one
+	 * @param capacity maximum amount of events waiting for each listener added
+	 * without one
+	 * @param policy behavior when the queue of a listener added without one is
+	 * full
+	 */
+	public AsyncListenableImpl(Executor executor, int capacity, OverflowPolicy policy) {
+		ensureNotNull(executor, "executor");
+		ensureStrictlyPositive(capacity, "capacity");
+		ensureNotNull(policy, "policy");
+		this.executor = executor;
+		this.capacity = capacity;
+		this.policy = policy;
+	}
+
+	/**
+	 * Enqueues an event for every listener currently listening. If the queue
+	 * of a listener rejects the event, it is still enqueued for the other
+	 * listeners before the exception is thrown.
+	 *
+	 * @param event event to deliver
+	 * @throws RejectedExecutionException if the event was rejected by a
+	 * listener with the {@link OverflowPolicy#REJECT} policy
+	 */
+	public void trigger(Consumer<L> event) {
+		ensureNotNull(event, "event");
+
+		RuntimeException failure = null;
+		Subscription<L>[] subscriptions = this.subscriptions;
+		for(int i = 0; i < subscriptions.length; i++) {
+			try {
+				subscriptions[i].offer(event);
+			} catch(RuntimeException ex) {
+				if(failure == null)
+					failure = ex;
+			}
+		}
+
+		if(failure != null)
+			throw failure;
+	}
+
+	@Override
+	public void addListener(L listener) {
+		subscribe(listener, executor, capacity, policy);
+	}
+
+	/**
+	 * Adds a listener receiving its events on the specified executor
+	 *
+	 * @param listener listener to add
+	 * @param executor executor delivering the events
+	 * @param capacity maximum amount of events waiting for the listener
+	 * @param policy behavior when the queue of the listener is full
+	 * @return subscription of the listener
+	 */
+	public synchronized Subscription<L> subscribe(L listener,
+			Executor executor,
+			int capacity,
+			OverflowPolicy policy) {
+		ensureNotNull(listener, "listener");
+		ensureNotNull(executor, "executor");
+		ensureStrictlyPositive(capacity, "capacity");
+		ensureNotNull(policy, "policy");
+
+		Subscription<L> subscription = new Subscription<>(listener, executor, capacity, policy);
+
+		Subscription<L>[] subscriptions = this.subscriptions;
+		Subscription<L>[] copy = newArray(subscriptions.length + 1);
+		System.arraycopy(subscriptions, 0, copy, 0, subscriptions.length);
+		copy[subscriptions.length] = subscription;
+		this.subscriptions = copy;
+		return subscription;
+	}
+
+	/**
+	 * Adds a listener receiving its events through the specified wrapper, such
+	 * as {@link com.winteralexander.gdx.utils.async.GdxCallback#gdxWrapper} to
+	 * receive them on the main LibGDX thread
+	 *
+	 * @param listener listener to add
+	 * @param wrapper wrapper delivering the events
+	 * @param capacity maximum amount of events waiting for the listener
+	 * @param policy behavior when the queue of the listener is full
+	 * @return subscription of the listener
+	 */
+	public Subscription<L> subscribe(L listener,
+			CallbackWrapper wrapper,
+			int capacity,
+			OverflowPolicy policy) {
+		ensureNotNull(wrapper, "wrapper");
+		Consumer<Runnable> delivery = wrapper.wrap(Runnable::run);
+		return subscribe(listener, delivery::accept, capacity, policy);
+	}
+
+	/**
+	 * Removes a listener, discarding the events still waiting for it. An event
+	 * being delivered while the listener is removed still completes.
+	 *
+	 * @param listener listener to remove
+	 */
+	@Override
+	public synchronized void removeListener(L listener) {
+		ensureNotNull(listener, "listener");
+
+		Subscription<L>[] subscriptions = this.subscriptions;
+		int index = indexOf(subscriptions, listener);
+		if(index == -1)
+			return;
+
+		subscriptions[index].close();
+
+		Subscription<L>[] copy = newArray(subscriptions.length - 1);
+		System.arraycopy(subscriptions, 0, copy, 0, index);
+		System.arraycopy(subscriptions, index + 1, copy, index, copy.length - index);
+		this.subscriptions = copy;
+	}
+
+	@Override
+	public boolean hasListener(L listener) {
+		ensureNotNull(listener, "listener");
+		return indexOf(subscriptions, listener) != -1;
+	}
+
+	/**
+	 * @param listener listener to find
+	 * @return subscription of the listener, or null if it isn't listening
+	 */
+	public Subscription<L> getSubscription(L listener) {
+		ensureNotNull(listener, "listener");
+
+		Subscription<L>[] subscriptions = this.subscriptions;
+		int index = indexOf(subscriptions, listener);
+		return index != -1 ? subscriptions[index] : null;
+	}
+
+	@Override
+	public synchronized void clearListeners() {
+		for(Subscription<L> subscription : subscriptions)
+			subscription.close();
+		subscriptions = empty();
+	}
+
+	private static int indexOf(Subscription<?>[] subscriptions, Object listener) {
+		for(int i = 0; i < subscriptions.length; i++)
+			if(subscriptions[i].listener == listener)
+				return i;
+		return -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <L> Subscription<L>[] empty() {
+		return (Subscription<L>[])EMPTY;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <L> Subscription<L>[] newArray(int size) {
+		return size == 0 ? empty() : (Subscription<L>[])new Subscription<?>[size];
+	}
+
+	/**
+	 * Queue of the events waiting for a single listener
+	 */
+	public static class Subscription<L> {
+		private final L listener;
+		private final Executor executor;
+		private final int capacity;
+		private final OverflowPolicy policy;
+
+		private final Runnable drainTask = this::drain;
+
+		// guarded by this
+		private final ArrayDeque<Consumer<L>> queue = new ArrayDeque<>();
+		private boolean scheduled = false, closed = false;
+		private long dropped = 0L;
+
+		private Subscription(L listener, Executor executor, int capacity, OverflowPolicy policy) {
+			this.listener = listener;
+			this.executor = executor;
+			this.capacity = capacity;
+			this.policy = policy;
+		}
+
+		private void offer(Consumer<L> event) {
+			synchronized(this) {
+				if(closed)
+					return;
+
+				if(queue.size() >= capacity) {
+					switch(policy) {
+						case DROP_NEWEST:
+							dropped++;
+							return;
+
+						case DROP_OLDEST:
+							queue.poll();
+							dropped++;
+							break;
+
+						case REJECT:
+							dropped++;
+							throw new RejectedExecutionException("Queue of listener "
+									+ listener + " is full");
+					}
+				}
+
+				queue.add(event);
+				if(scheduled)
+					return;
+				scheduled = true;
+			}
+
+			schedule();
+		}
+
+		private void schedule() {
+			try {
+				executor.execute(drainTask);
+			} catch(RuntimeException ex) {
+				// the queued events are delivered once an event is accepted
+				synchronized(this) {
+					scheduled = false;
+				}
+				throw ex;
+			}
+		}
+
+		private void drain() {
+			for(int i = 0; i < BATCH_SIZE; i++) {
+				Consumer<L> event;
+				synchronized(this) {
+					event = queue.poll();
+					if(event == null) {
+						scheduled = false;
+						return;
+					}
+				}
+
+				try {
+					event.accept(listener);
+				} catch(Throwable ex) {
+					Thread thread = Thread.currentThread();
+					thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+				}
+			}
+
+			schedule();
+		}
+
+		private synchronized void close() {
+			closed = true;
+			queue.clear();
+		}
+
+		public L getListener() {
+			return listener;
+		}
+
+		/**
+		 * @return amount of events waiting to be delivered to the listener
+		 */
+		public synchronized int getQueueSize() {
+			return queue.size();
+		}
+
+		/**
+		 * @return amount of events the listener didn't receive because its
+		 * queue was full
+		 */
+		public synchronized long getDroppedCount() {
+			return dropped;
+		}
+
+		/**
+		 * @return true if the listener was removed
+		 */
+		public synchronized boolean isClosed() {
+			return closed;
+		}
+	}
+
+	/**
+	 * Behavior of an {@link AsyncListenableImpl} when an event is triggered
+	 * while the queue of a listener is full
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Discards the new event
+		 */
+		DROP_NEWEST,
+		/**
+		 * Discards the oldest queued event to make room for the new one
+		 */
+		DROP_OLDEST,
+		/**
+		 * Discards the new event and throws a
+		 * {@link RejectedExecutionException} from
+		 * {@link AsyncListenableImpl#trigger(Consumer)}
+		 */
+		REJECT
+	}
+}
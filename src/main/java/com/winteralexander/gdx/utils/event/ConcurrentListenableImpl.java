@@ -0,0 +1,123 @@
+package com.winteralexander.gdx.utils.event;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.function.Consumer;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Thread-safe {@link Listenable} keeping its listeners in a copy-on-write
+ * array. Triggering an event reads the current array without locking or
+ * allocating, so it can be done from any thread, while adding and removing a
+ * listener copies the array under a lock.
+ * <p>
+ * An event is dispatched to the listeners present when it was triggered.
+ * Listeners added or removed during a trigger, even by the listeners
+ * themselves, are only affected from the next trigger on.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class ConcurrentListenableImpl<L> implements Listenable<L> {
+	private static final Object[] EMPTY = new Object[0];
+
+	private volatile Object[] listeners = EMPTY;
+
+	@SuppressWarnings("unchecked")
+	public void trigger(Consumer<L> event) {
+		ensureNotNull(event, "event");
+
+		Object[] listeners = this.listeners;
+		for(int i = 0; i < listeners.length; i++)
+			event.accept((L)listeners[i]);
+	}
+
+	@Override
+	public synchronized void addListener(L listener) {
+		ensureNotNull(listener, "listener");
+
+		Object[] listeners = this.listeners;
+		Object[] copy = new Object[listeners.length + 1];
+		System.arraycopy(listeners, 0, copy, 0, listeners.length);
+		copy[listeners.length] = listener;
+		this.listeners = copy;
+	}
+
+	@Override
+	public synchronized void addListeners(Iterable<L> listeners) {
+		ensureNotNull(listeners, "listeners");
+
+		Array<L> toAdd = new Array<>(true, 4);
+		for(L listener : listeners)
+			toAdd.add(ensureNotNull(listener, "listener"));
+
+		Object[] current = this.listeners;
+		Object[] copy = new Object[current.length + toAdd.size];
+		System.arraycopy(current, 0, copy, 0, current.length);
+		for(int i = 0; i < toAdd.size; i++)
+			copy[current.length + i] = toAdd.get(i);
+		this.listeners = copy;
+	}
+
+	/**
+	 * Adds a listener called before all the listeners currently present
+	 *
+	 * @param listener listener to add
+	 */
+	public synchronized void addPriorityListener(L listener) {
+		ensureNotNull(listener, "listener");
+
+		Object[] listeners = this.listeners;
+		Object[] copy = new Object[listeners.length + 1];
+		System.arraycopy(listeners, 0, copy, 1, listeners.length);
+		copy[0] = listener;
+		this.listeners = copy;
+	}
+
+	@Override
+	public synchronized void removeListener(L listener) {
+		ensureNotNull(listener, "listener");
+
+		Object[] listeners = this.listeners;
+		int index = indexOf(listeners, listener);
+		if(index == -1)
+			return;
+
+		if(listeners.length == 1) {
+			this.listeners = EMPTY;
+			return;
+		}
+
+		Object[] copy = new Object[listeners.length - 1];
+		System.arraycopy(listeners, 0, copy, 0, index);
+		System.arraycopy(listeners, index + 1, copy, index, copy.length - index);
+		this.listeners = copy;
+	}
+
+	@Override
+	public boolean hasListener(L listener) {
+		ensureNotNull(listener, "listener");
+		return indexOf(listeners, listener) != -1;
+	}
+
+	@Override
+	public synchronized void clearListeners() {
+		listeners = EMPTY;
+	}
+
+	/**
+	 * @return amount of listeners currently listening
+	 */
+	public int getListenerCount() {
+		return listeners.length;
+	}
+
+	private static int indexOf(Object[] listeners, Object listener) {
+		for(int i = 0; i < listeners.length; i++)
+			if(listeners[i] == listener)
+				return i;
+		return -1;
+	}
+}
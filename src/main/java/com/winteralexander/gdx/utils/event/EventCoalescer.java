@@ -0,0 +1,227 @@
+package com.winteralexander.gdx.utils.event;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Coalesces the events triggered on a listenable until they are flushed, such
+ * as once per frame or tick. Events posted for the same source and
+ * {@link EventKind} are merged with the combiner of their kind, so a burst of
+ * events costs a single trigger per listener once flushed. Events are
+ * triggered in the order they were first posted since the last flush.
+ * <p>
+ * Pending events are kept in pooled records, so posting and flushing doesn't
+ * allocate once the pool has warmed up. Not thread-safe, like
+ * {@link ListenableImpl}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class EventCoalescer<L> {
+	private final Consumer<Consumer<L>> trigger;
+	private final PriorityListenableImpl<L, ?> priorityListenable;
+
+	private final ObjectMap<Record<L>, Record<L>> pending = new ObjectMap<>();
+	private Array<Record<L>> order = new Array<>(true, 16), flushing = new Array<>(true, 16);
+	private final Record<L> probe = new Record<>();
+
+	private final Pool<Record<L>> pool = new Pool<Record<L>>() {
+		@Override
+		protected Record<L> newObject() {
+			return new Record<>();
+		}
+	};
+
+	/**
+	 * @param listenable listenable to trigger the events on
+	 */
+	public EventCoalescer(ListenableImpl<L> listenable) {
+		this(ensureNotNull(listenable, "listenable")::trigger);
+	}
+
+	/**
+	 * @param trigger function triggering an event on the listeners
+	 */
+	public EventCoalescer(Consumer<Consumer<L>> trigger) {
+		ensureNotNull(trigger, "trigger");
+		this.trigger = trigger;
+		this.priorityListenable = null;
+	}
+
+	/**
+	 * Creates a coalescer triggering events on every level of a priority
+	 * listenable, coalesced events are never considered handled
+	 *
+	 * @param listenable listenable to trigger the events on
+	 */
+	public EventCoalescer(PriorityListenableImpl<L, ?> listenable) {
+		ensureNotNull(listenable, "listenable");
+		this.trigger = null;
+		this.priorityListenable = listenable;
+	}
+
+	/**
+	 * Posts an event to trigger on the next flush, merging it with the pending
+	 * event of the same source and kind if there is one
+	 *
+	 * @param source object the event is about
+	 * @param kind kind of the event
+	 * @param event value of the event
+	 * @param <E> type of the value
+	 */
+	@SuppressWarnings("unchecked")
+	public <E> void post(Object source, EventKind<L, E> kind, E event) {
+		ensureNotNull(source, "source");
+		ensureNotNull(kind, "kind");
+
+		probe.set(source, (EventKind<L, Object>)kind);
+		Record<L> record = pending.get(probe);
+		probe.reset();
+
+		if(record != null) {
+			record.value = kind.combiner.apply((E)record.value, event);
+			return;
+		}
+
+		record = pool.obtain();
+		record.set(source, (EventKind<L, Object>)kind);
+		record.value = event;
+		pending.put(record, record);
+		order.add(record);
+	}
+
+	/**
+	 * Triggers the pending events. Events posted while flushing are triggered
+	 * on the next flush.
+	 */
+	public void flush() {
+		if(order.size == 0)
+			return;
+
+		Array<Record<L>> toFlush = order;
+		order = flushing;
+		flushing = toFlush;
+		pending.clear();
+
+		try {
+			for(int i = 0; i < toFlush.size; i++) {
+				Record<L> record = toFlush.get(i);
+				if(priorityListenable != null)
+					priorityListenable.trigger(record);
+				else
+					trigger.accept(record);
+			}
+		} finally {
+			for(int i = 0; i < toFlush.size; i++)
+				pool.free(toFlush.get(i));
+			toFlush.clear();
+		}
+	}
+
+	/**
+	 * Discards the pending events without triggering them
+	 */
+	public void clear() {
+		for(int i = 0; i < order.size; i++)
+			pool.free(order.get(i));
+		order.clear();
+		pending.clear();
+	}
+
+	/**
+	 * @return amount of events waiting for the next flush
+	 */
+	public int getPendingCount() {
+		return order.size;
+	}
+
+	/**
+	 * Kind of coalesced event, compared by identity. Usually kept in a
+	 * constant.
+	 *
+	 * @param <L> type of listener
+	 * @param <E> type of the value of the event
+	 */
+	public static class EventKind<L, E> {
+		private final BinaryOperator<E> combiner;
+		private final BiConsumer<L, E> delivery;
+
+		/**
+		 * Creates a kind of event keeping only the latest value
+		 *
+		 * @param delivery function giving the value to a listener
+		 */
+		public EventKind(BiConsumer<L, E> delivery) {
+			this((previous, next) -> next, delivery);
+		}
+
+		/**
+		 * @param combiner function merging a pending value with a new one
+		 * @param delivery function giving the value to a listener
+		 */
+		public EventKind(BinaryOperator<E> combiner, BiConsumer<L, E> delivery) {
+			ensureNotNull(combiner, "combiner");
+			ensureNotNull(delivery, "delivery");
+			this.combiner = combiner;
+			this.delivery = delivery;
+		}
+	}
+
+	/**
+	 * Pending event, triggered directly on the listeners
+	 */
+	private static class Record<L> implements Consumer<L>, Function<L, Boolean>, Poolable {
+		private Object source;
+		private EventKind<L, Object> kind;
+		private Object value;
+
+		private void set(Object source, EventKind<L, Object> kind) {
+			this.source = source;
+			this.kind = kind;
+		}
+
+		@Override
+		public void accept(L listener) {
+			kind.delivery.accept(listener, value);
+		}
+
+		@Override
+		public Boolean apply(L listener) {
+			accept(listener);
+			return Boolean.FALSE;
+		}
+
+		@Override
+		public void reset() {
+			source = null;
+			kind = null;
+			value = null;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(this == o)
+				return true;
+			if(!(o instanceof Record))
+				return false;
+
+			Record<?> other = (Record<?>)o;
+			return source == other.source && kind == other.kind;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(source) + System.identityHashCode(kind);
+		}
+	}
+}
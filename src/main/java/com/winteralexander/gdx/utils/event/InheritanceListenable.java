@@ -1,6 +1,6 @@
 package com.winteralexander.gdx.utils.event;
 
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.IdentityMap;
 
 import java.util.function.Consumer;
 
@@ -20,7 +20,11 @@ public abstract class InheritanceListenable<L, C extends L> implements Listenabl
 
 	private final Class<C> childrenType;
 
-	private final ObjectMap<L, C> wrappers = new ObjectMap<>();
+	/**
+	 * Wrappers of the parent listeners, by identity like the listeners of the
+	 * delegator
+	 */
+	private final IdentityMap<L, C> wrappers = new IdentityMap<>();
 
 	public InheritanceListenable(Class<C> childrenType) {
 		ensureNotNull(childrenType, "childrenType");
@@ -61,8 +65,9 @@ public abstract class InheritanceListenable<L, C extends L> implements Listenabl
 	public boolean hasListener(L listener) {
 		if(childrenType.isInstance(listener))
 			return delegator.hasListener(childrenType.cast(listener));
-		else
-			return delegator.hasListener(wrappers.get(listener));
+
+		C wrapped = wrappers.get(listener);
+		return wrapped != null && delegator.hasListener(wrapped);
 	}
 
 	@Override
@@ -1,41 +1,60 @@
 package com.winteralexander.gdx.utils.event;
 
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.IdentityMap;
 import com.winteralexander.gdx.utils.EnumConstantCache;
 
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
 
 /**
- * PriorityListenable implementation with ObjectMap and enum values as priority
- * levels. Supports multiple listeners per levels.
+ * PriorityListenable implementation with enum values as priority levels.
+ * Supports multiple listeners per levels.
+ * <p>
+ * Each level is a linked list indexed by the ordinal of its priority and
+ * listeners are found by identity, so adding, removing and checking a listener
+ * is O(1) regardless of the amount of listeners. Listeners of a level are
+ * triggered in the order they were added.
  * <p>
  * Created on 2018-04-24.
  *
  * @author Alexander Winter
  */
 public class PriorityListenableImpl<L, P extends Enum<P>> implements PriorityListenable<L, P> {
-	private final ObjectMap<P, Array<L>> listeners = new ObjectMap<>();
 	private final P[] priorities;
-
 	private final P defaultPriority;
 
+	/**
+	 * First and last listener of each level, by ordinal of its priority
+	 */
+	private final Node<L>[] heads, tails;
+
+	/**
+	 * First registration of each listener, further registrations of the same
+	 * listener are chained to it
+	 */
+	private final IdentityMap<L, Node<L>> nodes = new IdentityMap<>();
+
+	/**
+	 * Changes made while the listeners are locked, applied in order once
+	 * unlocked. A null priority removes the listener, a null listener clears
+	 * all listeners.
+	 */
 	private boolean lockListeners = false;
-	private final ObjectMap<P, Array<L>> toAdd = new ObjectMap<>(), toRemove = new ObjectMap<>();
+	private final Array<L> pendingListeners = new Array<>(true, 4);
+	private final Array<P> pendingPriorities = new Array<>(true, 4);
 
 	@SuppressWarnings("unchecked")
 	public PriorityListenableImpl(P defaultPriority) {
+		ensureNotNull(defaultPriority, "defaultPriority");
 		this.defaultPriority = defaultPriority;
 
-		priorities = EnumConstantCache.get((Class<P>)defaultPriority.getClass());
-		for(P priority : priorities) {
-			listeners.put(priority, new Array<>(true, 4));
-			toAdd.put(priority, new Array<>(true, 4));
-			toRemove.put(priority, new Array<>(false, 4));
-		}
+		priorities = EnumConstantCache.get(defaultPriority.getDeclaringClass());
+		heads = new Node[priorities.length];
+		tails = new Node[priorities.length];
 	}
 
 	/**
@@ -52,16 +71,11 @@ public class PriorityListenableImpl<L, P extends Enum<P>> implements PriorityLis
 			lockListeners();
 		boolean result = false;
 		for(P priority : priorities) {
-			Array<L> level = listeners.get(priority);
-
 			boolean handled = false;
 
-			int size = level.size;
-			for(int i = 0; i < size; i++) {
-				L listener = level.get(i);
-				if(event.apply(listener))
+			for(Node<L> node = heads[priority.ordinal()]; node != null; node = node.next)
+				if(event.apply(node.listener))
 					handled = true;
-			}
 
 			if(handled) {
 				result = true;
@@ -90,16 +104,16 @@ public class PriorityListenableImpl<L, P extends Enum<P>> implements PriorityLis
 		boolean handled = false;
 
 		for(P priority : priorities) {
-			Array<L> level = listeners.get(priority);
+			Node<L> head = heads[priority.ordinal()];
 
 			if(handled) {
-				for(L listener : level)
-					handledEvent.accept(listener);
+				for(Node<L> node = head; node != null; node = node.next)
+					handledEvent.accept(node.listener);
 				continue;
 			}
 
-			for(L listener : level)
-				if(event.apply(listener))
+			for(Node<L> node = head; node != null; node = node.next)
+				if(event.apply(node.listener))
 					handled = true;
 		}
 		if(!wasLocked)
@@ -116,39 +130,41 @@ public class PriorityListenableImpl<L, P extends Enum<P>> implements PriorityLis
 	@Override
 	public void addListener(L listener, P priority) {
 		ensureNotNull(listener, "listener");
-		if(lockListeners)
-			toAdd.get(priority).add(listener);
-		else
-			listeners.get(priority).add(listener);
+		ensureNotNull(priority, "priority");
+		if(lockListeners) {
+			pendingListeners.add(listener);
+			pendingPriorities.add(priority);
+		} else
+			link(listener, priority.ordinal());
 	}
 
+	/**
+	 * Removes every registration of the specified listener
+	 *
+	 * @param listener listener to remove
+	 */
 	@Override
 	public void removeListener(L listener) {
 		ensureNotNull(listener, "listener");
-		if(lockListeners)
-			for(Array<L> array : toRemove.values())
-				array.add(listener);
-		else
-			for(Array<L> array : listeners.values())
-				array.removeValue(listener, true);
+		if(lockListeners) {
+			pendingListeners.add(listener);
+			pendingPriorities.add(null);
+		} else
+			unlink(listener);
 	}
 
 	@Override
 	public boolean hasListener(L listener) {
-		for(Array<L> array : listeners.values())
-			if(array.contains(listener, true))
-				return true;
-		return false;
+		return nodes.containsKey(listener);
 	}
 
 	@Override
 	public void clearListeners() {
-		if(lockListeners)
-			for(P priority : priorities)
-				toRemove.get(priority).addAll(listeners.get(priority));
-		else
-			for(Array<L> array : listeners.values())
-				array.clear();
+		if(lockListeners) {
+			pendingListeners.add(null);
+			pendingPriorities.add(null);
+		} else
+			clear();
 	}
 
 	public void lockListeners() {
@@ -157,11 +173,81 @@ public class PriorityListenableImpl<L, P extends Enum<P>> implements PriorityLis
 
 	public void unlockListeners() {
 		lockListeners = false;
-		for(P priority : priorities) {
-			listeners.get(priority).removeAll(toRemove.get(priority), true);
-			listeners.get(priority).addAll(toAdd.get(priority));
-			toAdd.get(priority).clear();
-			toRemove.get(priority).clear();
+		for(int i = 0; i < pendingListeners.size; i++) {
+			L listener = pendingListeners.get(i);
+			P priority = pendingPriorities.get(i);
+
+			if(listener == null)
+				clear();
+			else if(priority == null)
+				unlink(listener);
+			else
+				link(listener, priority.ordinal());
+		}
+		pendingListeners.clear();
+		pendingPriorities.clear();
+	}
+
+	private void link(L listener, int level) {
+		Node<L> node = new Node<>(listener);
+
+		Node<L> tail = tails[level];
+		if(tail == null)
+			heads[level] = node;
+		else {
+			tail.next = node;
+			node.prev = tail;
+		}
+		tails[level] = node;
+		node.level = level;
+
+		Node<L> first = nodes.get(listener);
+		if(first == null) {
+			nodes.put(listener, node);
+			return;
+		}
+
+		while(first.sameNext != null)
+			first = first.sameNext;
+		first.sameNext = node;
+	}
+
+	private void unlink(L listener) {
+		Node<L> node = nodes.remove(listener);
+		while(node != null) {
+			int level = node.level;
+			if(node.prev == null)
+				heads[level] = node.next;
+			else
+				node.prev.next = node.next;
+
+			if(node.next == null)
+				tails[level] = node.prev;
+			else
+				node.next.prev = node.prev;
+
+			node = node.sameNext;
+		}
+	}
+
+	private void clear() {
+		nodes.clear();
+		Arrays.fill(heads, null);
+		Arrays.fill(tails, null);
+	}
+
+	private static class Node<L> {
+		private final L listener;
+		private int level;
+		private Node<L> prev, next;
+
+		/**
+		 * Next registration of the same listener
+		 */
+		private Node<L> sameNext;
+
+		public Node(L listener) {
+			this.listener = listener;
 		}
 	}
 }
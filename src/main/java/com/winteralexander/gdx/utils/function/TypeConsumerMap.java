@@ -1,5 +1,6 @@
 package com.winteralexander.gdx.utils.function;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 
 import java.util.function.Consumer;
@@ -9,28 +10,93 @@ import java.util.function.Consumer;
  * TypeConsumerMap then acts as a consumer that can accept anything that is an
  * instance of the base type B.
  * <p>
+ * An object is given to the consumer of its class or, if there is none, of its
+ * closest superclass or interface. Classes are searched from the class of the
+ * object up, the interfaces of a class being searched right after it. The
+ * consumer of each concrete class is resolved once and cached without locking,
+ * so accepting an object after that is a single lookup which doesn't allocate.
+ * <p>
  * Created on 2019-01-30.
  *
  * @author Alexander Winter
  */
 public class TypeConsumerMap<B> implements Consumer<B> {
-	private Consumer<B> defaultConsumer = o -> {};
+	/**
+	 * Cached resolution of classes without a consumer
+	 */
+	private static final Consumer<Object> NONE = o -> {};
+
+	private volatile Consumer<B> defaultConsumer = o -> {};
+
+	// guarded by this
 	private final ObjectMap<Class<?>, Consumer<?>> map = new ObjectMap<>();
 
+	/**
+	 * Consumer resolved for each concrete class, replaced when the map changes
+	 */
+	private volatile ClassValue<Consumer<?>> cache = newCache();
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public void accept(B o) {
-		if(o == null)
+		if(o == null) {
 			defaultConsumer.accept(null);
+			return;
+		}
+
+		Consumer<?> consumer = cache.get(o.getClass());
+		if(consumer == NONE)
+			defaultConsumer.accept(o);
 		else
-			((Consumer<B>)map.get(o.getClass(), defaultConsumer)).accept(o);
+			((Consumer<B>)consumer).accept(o);
 	}
 
-	public <T extends B> void set(Class<T> key, Consumer<T> consumer) {
+	public synchronized <T extends B> void set(Class<T> key, Consumer<T> consumer) {
 		map.put(key, consumer);
+		cache = newCache();
+	}
+
+	/**
+	 * Removes the consumer of a type, objects of this type then go to the
+	 * consumer of their closest supertype
+	 *
+	 * @param key type to remove
+	 */
+	public synchronized void remove(Class<? extends B> key) {
+		if(map.remove(key) != null)
+			cache = newCache();
 	}
 
 	public void setDefault(Consumer<B> defaultConsumer) {
 		this.defaultConsumer = defaultConsumer;
 	}
+
+	private ClassValue<Consumer<?>> newCache() {
+		return new ClassValue<Consumer<?>>() {
+			@Override
+			protected Consumer<?> computeValue(Class<?> type) {
+				return resolve(type);
+			}
+		};
+	}
+
+	private synchronized Consumer<?> resolve(Class<?> type) {
+		Array<Class<?>> interfaces = new Array<>();
+		for(Class<?> current = type; current != null; current = current.getSuperclass()) {
+			Consumer<?> consumer = map.get(current);
+			if(consumer != null)
+				return consumer;
+
+			// breadth-first through the interfaces of this class
+			interfaces.clear();
+			interfaces.addAll(current.getInterfaces());
+			for(int i = 0; i < interfaces.size; i++) {
+				consumer = map.get(interfaces.get(i));
+				if(consumer != null)
+					return consumer;
+				interfaces.addAll(interfaces.get(i).getInterfaces());
+			}
+		}
+		return NONE;
+	}
 }
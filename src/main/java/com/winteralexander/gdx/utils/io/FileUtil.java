@@ -309,7 +309,19 @@ public class FileUtil {
 	 * @return log file of current date
 	 */
 	public static File getLogFile(File directory) {
-		return new File(directory, getDailyLogfileName());
+		return getLogFile(directory, System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns a file instance named after the date of the specified time into
+	 * specified directory
+	 *
+	 * @param directory directory containing the log file
+	 * @param time time in milliseconds since epoch
+	 * @return log file of the date of the time
+	 */
+	public static File getLogFile(File directory, long time) {
+		return new File(directory, getDailyLogfileName(time));
 	}
 
 	/**
@@ -318,8 +330,19 @@ public class FileUtil {
 	 * @return a filename
 	 */
 	public static String getDailyLogfileName() {
+		return getDailyLogfileName(System.currentTimeMillis());
+	}
+
+	/**
+	 * Returns a filename composed of the date of the specified time and the
+	 * ".log" extension.
+	 *
+	 * @param time time in milliseconds since epoch
+	 * @return a filename
+	 */
+	public static String getDailyLogfileName(long time) {
 		Date date = new Date();
-		date.setTime(System.currentTimeMillis());
+		date.setTime(time);
 		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
 		return dateFormat.format(date) + ".log";
 	}
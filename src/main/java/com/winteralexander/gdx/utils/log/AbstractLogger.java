@@ -15,6 +15,14 @@ import java.util.Date;
  */
 public abstract class AbstractLogger implements Logger {
 	private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+	private final Date date = new Date();
+
+	/**
+	 * Second the cached time string was formatted for, lines logged within the
+	 * same second reuse it
+	 */
+	private long formattedSecond = Long.MIN_VALUE;
+	private String formattedTime = null;
 
 	protected LogLevel logLevel;
 
@@ -24,11 +32,30 @@ public abstract class AbstractLogger implements Logger {
 
 	protected abstract void write(String line) throws IOException;
 
-	protected synchronized void log(LogLevel logLevel, String message, Throwable ex) {
+	/**
+	 * Called after a batch of lines was written, such as by {@link AsyncLogger},
+	 * for loggers buffering their output
+	 *
+	 * @throws IOException if the output could not be flushed
+	 */
+	protected void flush() throws IOException {}
+
+	protected void log(LogLevel logLevel, String message, Throwable ex) {
+		log(System.currentTimeMillis(), logLevel, message, ex);
+	}
+
+	/**
+	 * Logs a message with the time it was logged at
+	 *
+	 * @param time time of the message, in milliseconds since epoch
+	 * @param logLevel level of the message
+	 * @param message message to log
+	 * @param ex exception to log with the message, or null
+	 */
+	protected synchronized void log(long time, LogLevel logLevel, String message, Throwable ex) {
 		if(this.logLevel.ordinal() >= logLevel.ordinal()) {
 			try {
-				String line = timeFormat.format(new Date()) + " [" + logLevel.name() + "] "
-						+ message;
+				String line = formatTime(time) + " [" + logLevel.name() + "] " + message;
 				if(ex != null) {
 					StringWriter full = new StringWriter();
 
@@ -49,6 +76,16 @@ public abstract class AbstractLogger implements Logger {
 		}
 	}
 
+	private String formatTime(long time) {
+		long second = Math.floorDiv(time, 1000L);
+		if(second != formattedSecond) {
+			date.setTime(time);
+			formattedTime = timeFormat.format(date);
+			formattedSecond = second;
+		}
+		return formattedTime;
+	}
+
 	@Override
 	public void debug(String message) {
 		debug(message, null);
@@ -89,6 +126,11 @@ public abstract class AbstractLogger implements Logger {
 		log(LogLevel.ERROR, message, ex);
 	}
 
+	@Override
+	public boolean isEnabled(LogLevel logLevel) {
+		return this.logLevel.ordinal() >= logLevel.ordinal();
+	}
+
 	@Override
 	public LogLevel getLogLevel() {
 		return logLevel;
@@ -0,0 +1,360 @@
+package com.winteralexander.gdx.utils.log;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.winteralexander.gdx.utils.Validation.*;
+
+/**
+ * Logger handing its messages to an {@link AbstractLogger} on a background
+ * thread. Logging threads only copy the message into a pre-allocated record of
+ * a bounded lock-free ring buffer, the background thread formats and writes
+ * the records in batches, flushing the target after each batch.
+ * <p>
+ * When the ring buffer is full, the {@link OverflowPolicy} decides what happens
+ * to the message. Records still in the ring buffer are written when the JVM
+ * shuts down or when the logger is closed, after which messages are written
+ * directly on the logging thread.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncLogger implements Logger {
+	private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+	private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+
+	private final AbstractLogger target;
+	private final OverflowPolicy policy;
+
+	private final Record[] records;
+	private final AtomicLongArray sequences;
+	private final int mask;
+
+	/**
+	 * Position of the next record to claim by the logging threads
+	 */
+	private final AtomicLong tail = new AtomicLong(0L);
+
+	/**
+	 * Position of the next record to write by the background thread
+	 */
+	private volatile long head = 0L;
+
+	private final LongAdder dropped = new LongAdder();
+
+	private final Thread thread;
+	private final Thread shutdownHook;
+	private volatile boolean sleeping = false, closed = false;
+
+	/**
+	 * Creates an AsyncLogger writing to the specified logger, blocking logging
+	 * threads when its buffer is full
+	 *
+	 * @param target logger writing the messages
+	 * @param capacity amount of records of the ring buffer, rounded up to a
+	 * power of 2
+	 */
+	public AsyncLogger(AbstractLogger target, int capacity) {
+		this(target, capacity, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Creates an AsyncLogger writing to the specified logger
+	 *
+	 * @param target logger writing the messages
+	 * @param capacity amount of records of the ring buffer, rounded up to a
+	 * power of 2
+	 * @param policy behavior when the ring buffer is full
+	 */
+	public AsyncLogger(AbstractLogger target, int capacity, OverflowPolicy policy) {
+		ensureNotNull(target, "target");
+		ensureInRange(capacity, 1, 1 << 30, "capacity");
+		ensureNotNull(policy, "policy");
+
+		this.target = target;
+		this.policy = policy;
+
+		int size = Integer.highestOneBit(capacity);
+		if(size < capacity)
+			size <<= 1;
+
+		this.records = new Record[size];
+		this.sequences = new AtomicLongArray(size);
+		this.mask = size - 1;
+		for(int i = 0; i < size; i++) {
+			records[i] = new Record();
+			sequences.set(i, i);
+		}
+
+		thread = new Thread(this::work, "AsyncLogger");
+		thread.setDaemon(true);
+		thread.start();
+
+		shutdownHook = new Thread(this::close, "AsyncLogger shutdown");
+		Runtime.getRuntime().addShutdownHook(shutdownHook);
+	}
+
+	private void log(LogLevel logLevel, String message, Throwable ex) {
+		if(target.getLogLevel().ordinal() < logLevel.ordinal())
+			return;
+
+		long time = System.currentTimeMillis();
+		if(closed) {
+			target.log(time, logLevel, message, ex);
+			return;
+		}
+
+		while(!tryEnqueue(time, logLevel, message, ex)) {
+			switch(policy) {
+				case BLOCK:
+					if(closed) {
+						target.log(time, logLevel, message, ex);
+						return;
+					}
+					LockSupport.parkNanos(this, FULL_PARK_NANOS);
+					continue;
+
+				case DROP:
+					dropped.increment();
+					return;
+
+				case SYNC:
+					target.log(time, logLevel, message, ex);
+					return;
+			}
+		}
+
+		if(closed)
+			drain(); // the background thread may have stopped before writing it
+		else if(sleeping)
+			LockSupport.unpark(thread);
+	}
+
+	private boolean tryEnqueue(long time, LogLevel logLevel, String message, Throwable ex) {
+		long position = tail.get();
+		while(true) {
+			int index = (int)position & mask;
+			long available = sequences.get(index) - position;
+
+			if(available == 0L) {
+				if(tail.compareAndSet(position, position + 1L)) {
+					records[index].set(time, logLevel, message, ex);
+					sequences.set(index, position + 1L);
+					return true;
+				}
+				position = tail.get();
+			} else if(available < 0L)
+				return false;
+			else
+				position = tail.get();
+		}
+	}
+
+	private void work() {
+		while(true) {
+			if(drain() > 0)
+				continue;
+
+			if(closed)
+				return;
+
+			sleeping = true;
+			if(!hasPending() && !closed)
+				LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+			sleeping = false;
+		}
+	}
+
+	/**
+	 * Writes the records available in the ring buffer. Only contended once the
+	 * logger is closed. Errors of the target are reported to the standard error
+	 * stream so they don't stop the background thread.
+	 *
+	 * @return amount of records written
+	 */
+	private synchronized int drain() {
+		int written = 0;
+		long position = head;
+		while(true) {
+			int index = (int)position & mask;
+			if(sequences.get(index) != position + 1L)
+				break;
+
+			Record record = records[index];
+			try {
+				target.log(record.time, record.logLevel, record.message, record.ex);
+			} catch(Throwable ex) {
+				System.err.println("Logging error:");
+				ex.printStackTrace(System.err);
+				System.err.println("Was trying to log " + record.logLevel.name()
+						+ " message: " + record.message);
+			} finally {
+				record.clear();
+			}
+
+			sequences.set(index, position + records.length);
+			head = ++position;
+			written++;
+		}
+
+		if(written > 0) {
+			try {
+				target.flush();
+			} catch(IOException | RuntimeException ex) {
+				System.err.println("Logging error:");
+				ex.printStackTrace(System.err);
+			}
+		}
+		return written;
+	}
+
+	private boolean hasPending() {
+		long position = head;
+		return sequences.get((int)position & mask) == position + 1L;
+	}
+
+	/**
+	 * Waits until the messages logged before this call are written
+	 */
+	public void flush() {
+		long position = tail.get();
+		while(head < position && thread.isAlive()) {
+			LockSupport.unpark(thread);
+			LockSupport.parkNanos(this, FULL_PARK_NANOS);
+		}
+	}
+
+	/**
+	 * Writes the messages left in the ring buffer and stops the background
+	 * thread. Messages logged after closing are written directly on the logging
+	 * thread.
+	 */
+	public void close() {
+		if(closed)
+			return;
+
+		closed = true;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+
+		// messages published after the background thread saw the logger closed
+		drain();
+
+		if(Thread.currentThread() != shutdownHook) {
+			try {
+				Runtime.getRuntime().removeShutdownHook(shutdownHook);
+			} catch(IllegalStateException ignored) {} // already shutting down
+		}
+	}
+
+	/**
+	 * @return amount of messages discarded because the ring buffer was full
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	public AbstractLogger getTarget() {
+		return target;
+	}
+
+	@Override
+	public void debug(String message) {
+		debug(message, null);
+	}
+
+	@Override
+	public void debug(String message, Throwable ex) {
+		log(LogLevel.DEBUG, message, ex);
+	}
+
+	@Override
+	public void info(String message) {
+		info(message, null);
+	}
+
+	@Override
+	public void info(String message, Throwable ex) {
+		log(LogLevel.INFO, message, ex);
+	}
+
+	@Override
+	public void warn(String message) {
+		warn(message, null);
+	}
+
+	@Override
+	public void warn(String message, Throwable ex) {
+		log(LogLevel.WARNING, message, ex);
+	}
+
+	@Override
+	public void error(String message) {
+		error(message, null);
+	}
+
+	@Override
+	public void error(String message, Throwable ex) {
+		log(LogLevel.ERROR, message, ex);
+	}
+
+	@Override
+	public LogLevel getLogLevel() {
+		return target.getLogLevel();
+	}
+
+	@Override
+	public void setLogLevel(LogLevel logLevel) {
+		target.setLogLevel(logLevel);
+	}
+
+	private static class Record {
+		private long time;
+		private LogLevel logLevel;
+		private String message;
+		private Throwable ex;
+
+		private void set(long time, LogLevel logLevel, String message, Throwable ex) {
+			this.time = time;
+			this.logLevel = logLevel;
+			this.message = message;
+			this.ex = ex;
+		}
+
+		private void clear() {
+			logLevel = null;
+			message = null;
+			ex = null;
+		}
+	}
+
+	/**
+	 * Behavior of an {@link AsyncLogger} when a message is logged while its
+	 * ring buffer is full
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Waits until there is room in the ring buffer
+		 */
+		BLOCK,
+		/**
+		 * Discards the message, counting it in
+		 * {@link AsyncLogger#getDroppedCount()}
+		 */
+		DROP,
+		/**
+		 * Writes the message directly on the logging thread, possibly out of
+		 * order with the messages still in the ring buffer
+		 */
+		SYNC
+	}
+}
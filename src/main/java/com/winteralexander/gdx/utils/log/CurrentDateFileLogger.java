@@ -1,9 +1,8 @@
 package com.winteralexander.gdx.utils.log;
 
 import java.io.File;
-import java.io.IOException;
+import java.util.Calendar;
 
-import static com.winteralexander.gdx.utils.io.FileUtil.getDailyLogfileName;
 import static com.winteralexander.gdx.utils.io.FileUtil.getLogFile;
 
 /**
@@ -14,18 +13,45 @@ import static com.winteralexander.gdx.utils.io.FileUtil.getLogFile;
  * @author Cedric Martens
  */
 public class CurrentDateFileLogger extends FileLogger {
+	/**
+	 * Time in milliseconds since epoch at which the logger moves on to the file
+	 * of the next day
+	 */
+	private long nextRollover;
+
 	public CurrentDateFileLogger(LogLevel logLevel, File baseDir) {
-		super(logLevel, getLogFile(baseDir));
+		this(logLevel, baseDir, true);
 	}
 
 	public CurrentDateFileLogger(LogLevel logLevel, File baseDir, boolean append) {
-		super(logLevel, getLogFile(baseDir), append);
+		this(logLevel, baseDir, append, System.currentTimeMillis());
+	}
+
+	private CurrentDateFileLogger(LogLevel logLevel, File baseDir, boolean append, long time) {
+		super(logLevel, getLogFile(baseDir, time), append);
+		nextRollover = nextMidnight(time);
 	}
 
 	@Override
-	protected void write(String line) throws IOException {
-		if(!file.getName().equals(getDailyLogfileName()))
-			file = getLogFile(file.getParentFile());
-		super.write(line);
+	protected synchronized void log(long time,
+			LogLevel logLevel,
+			String message,
+			Throwable ex) {
+		if(time >= nextRollover) {
+			setFile(getLogFile(file.getParentFile(), time));
+			nextRollover = nextMidnight(time);
+		}
+		super.log(time, logLevel, message, ex);
+	}
+
+	private static long nextMidnight(long time) {
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(time);
+		calendar.set(Calendar.HOUR_OF_DAY, 0);
+		calendar.set(Calendar.MINUTE, 0);
+		calendar.set(Calendar.SECOND, 0);
+		calendar.set(Calendar.MILLISECOND, 0);
+		calendar.add(Calendar.DAY_OF_MONTH, 1);
+		return calendar.getTimeInMillis();
 	}
 }
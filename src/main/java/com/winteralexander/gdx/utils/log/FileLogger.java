@@ -1,29 +1,81 @@
 package com.winteralexander.gdx.utils.log;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
 
+import static com.winteralexander.gdx.utils.Validation.*;
 import static com.winteralexander.gdx.utils.io.FileUtil.deleteFile;
 import static com.winteralexander.gdx.utils.io.FileUtil.ensureFile;
 
 /**
  * Logs to file with time
  * <p>
+ * The file is kept open and every line is written to it right away unless
+ * buffering is enabled with {@link #setFlushPolicy(LogLevel, long)}. Buffered
+ * lines are then written when the buffer is full, when a line of the flush
+ * level or more severe is logged, when the flush interval has passed since the
+ * last write, or when {@link #flush()} is called, such as by an
+ * {@link AsyncLogger} after each batch. Buffered lines are written when the JVM
+ * shuts down unless the logger was closed.
+ * <p>
  * Created on 2017-06-07.
  *
  * @author Alexander Winter
  */
 public class FileLogger extends AbstractLogger {
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+
 	protected File file;
 
+	private FileChannel channel = null;
+	private final ByteBuffer buffer;
+	private final CharsetEncoder encoder = Charset.defaultCharset()
+			.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+	/**
+	 * Writes the buffered lines when the JVM shuts down, registered from the
+	 * first line logged until the logger is closed
+	 */
+	private final Thread shutdownHook = new Thread(this::close, "FileLogger shutdown");
+	private boolean hookRegistered = false;
+
+	private LogLevel flushLevel = LogLevel.DEBUG;
+	private long flushInterval = 1000L;
+	private long lastFlush = 0L;
+
 	public FileLogger(LogLevel logLevel, File file) {
 		this(logLevel, file, true);
 	}
 
 	public FileLogger(LogLevel logLevel, File file, boolean append) {
+		this(logLevel, file, append, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * @param logLevel maximum level of the messages to log
+	 * @param file file to log to
+	 * @param append true to keep the current content of the file, otherwise
+	 * false
+	 * @param bufferSize size in bytes of the buffer of lines to write, must fit
+	 * a line separator and the longest encoding of a surrogate pair
+	 */
+	public FileLogger(LogLevel logLevel, File file, boolean append, int bufferSize) {
 		super(logLevel);
+		// a character the encoder can't fit in an empty buffer would never be written
+		int minBufferSize = (int)Math.ceil(encoder.maxBytesPerChar() * 2f) + LINE_SEPARATOR.length;
+		ensureInRange(bufferSize, minBufferSize, Integer.MAX_VALUE, "bufferSize");
 
 		try {
 			ensureFile(file);
@@ -33,15 +85,127 @@ public class FileLogger extends AbstractLogger {
 			throw new RuntimeException("Failed to initialize FileLogger", ex);
 		}
 		this.file = file;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	@Override
+	protected synchronized void log(long time,
+			LogLevel logLevel,
+			String message,
+			Throwable ex) {
+		super.log(time, logLevel, message, ex);
+
+		if(logLevel.ordinal() <= flushLevel.ordinal() || time - lastFlush >= flushInterval) {
+			try {
+				writeBuffer();
+			} catch(IOException logEx) {
+				System.err.println("Logging error:");
+				logEx.printStackTrace(System.err);
+			}
+			lastFlush = time;
+		}
 	}
 
 	@Override
 	protected void write(String line) throws IOException {
-		PrintStream fos = new PrintStream(new FileOutputStream(file, true));
+		if(!hookRegistered) {
+			try {
+				Runtime.getRuntime().addShutdownHook(shutdownHook);
+				hookRegistered = true;
+			} catch(IllegalStateException ignored) {} // already shutting down
+		}
+
+		encoder.reset();
+		CharBuffer chars = CharBuffer.wrap(line);
+		while(true) {
+			CoderResult result = encoder.encode(chars, buffer, true);
+			if(!result.isOverflow())
+				break;
+			writeBuffer();
+		}
+		while(encoder.flush(buffer).isOverflow())
+			writeBuffer();
+
+		if(buffer.remaining() < LINE_SEPARATOR.length)
+			writeBuffer();
+		buffer.put(LINE_SEPARATOR);
+	}
+
+	@Override
+	protected synchronized void flush() throws IOException {
+		writeBuffer();
+	}
+
+	/**
+	 * Writes the buffered lines and closes the file. The file is reopened if
+	 * more lines are logged. Closed loggers are no longer referenced by their
+	 * shutdown hook.
+	 */
+	public synchronized void close() {
+		try {
+			writeBuffer();
+			if(channel != null)
+				channel.close();
+		} catch(IOException ex) {
+			System.err.println("Logging error:");
+			ex.printStackTrace(System.err);
+		} finally {
+			channel = null;
+			if(hookRegistered && Thread.currentThread() != shutdownHook) {
+				try {
+					Runtime.getRuntime().removeShutdownHook(shutdownHook);
+				} catch(IllegalStateException ignored) {} // already shutting down
+			}
+			hookRegistered = false;
+		}
+	}
 
-		fos.println(line);
+	/**
+	 * Writes the buffered lines to the file, opening it if needed
+	 */
+	private void writeBuffer() throws IOException {
+		if(buffer.position() == 0)
+			return;
+
+		if(channel == null)
+			channel = FileChannel.open(file.toPath(),
+					StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE,
+					StandardOpenOption.APPEND);
+
+		buffer.flip();
+		try {
+			while(buffer.hasRemaining())
+				channel.write(buffer);
+		} finally {
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Writes the buffered lines to the current file and logs to another one
+	 *
+	 * @param file file to log to
+	 */
+	protected synchronized void setFile(File file) {
+		ensureNotNull(file, "file");
+		close();
+		this.file = file;
+	}
 
-		fos.flush();
-		fos.close();
+	/**
+	 * Sets when the buffered lines are written to the file, in addition to when
+	 * the buffer is full. By default every line is written right away.
+	 *
+	 * @param flushLevel lines of this level or more severe are written right
+	 * away, {@link LogLevel#DEBUG} to write every line
+	 * @param flushInterval time in milliseconds after which buffered lines are
+	 * written when another line is logged
+	 */
+	public synchronized void setFlushPolicy(LogLevel flushLevel, long flushInterval) {
+		ensureNotNull(flushLevel, "flushLevel");
+		ensurePositive(flushInterval, "flushInterval");
+		this.flushLevel = flushLevel;
+		this.flushInterval = flushInterval;
 	}
 }
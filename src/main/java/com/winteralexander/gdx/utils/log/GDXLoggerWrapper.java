@@ -1,12 +1,13 @@
 package com.winteralexander.gdx.utils.log;
 
 import com.badlogic.gdx.ApplicationLogger;
+import com.winteralexander.gdx.utils.log.Logger.LogLevel;
 
 import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
 
 /**
  * {@link ApplicationLogger} which feedsback into a regular MakerKing
- * {@link Logger}
+ * {@link Logger}. Tagged messages are only built if the logger logs their level.
  * <p>
  * Created on 2021-01-15.
  *
@@ -22,31 +23,37 @@ public class GDXLoggerWrapper implements ApplicationLogger {
 
 	@Override
 	public void log(String tag, String message) {
-		logger.info("[" + tag + "] " + message);
+		if(logger.isEnabled(LogLevel.INFO))
+			logger.info("[" + tag + "] " + message);
 	}
 
 	@Override
 	public void log(String tag, String message, Throwable exception) {
-		logger.info("[" + tag + "] " + message, exception);
+		if(logger.isEnabled(LogLevel.INFO))
+			logger.info("[" + tag + "] " + message, exception);
 	}
 
 	@Override
 	public void error(String tag, String message) {
-		logger.error("[" + tag + "] " + message);
+		if(logger.isEnabled(LogLevel.ERROR))
+			logger.error("[" + tag + "] " + message);
 	}
 
 	@Override
 	public void error(String tag, String message, Throwable exception) {
-		logger.error("[" + tag + "] " + message, exception);
+		if(logger.isEnabled(LogLevel.ERROR))
+			logger.error("[" + tag + "] " + message, exception);
 	}
 
 	@Override
 	public void debug(String tag, String message) {
-		logger.debug("[" + tag + "] " + message);
+		if(logger.isEnabled(LogLevel.DEBUG))
+			logger.debug("[" + tag + "] " + message);
 	}
 
 	@Override
 	public void debug(String tag, String message, Throwable exception) {
-		logger.debug("[" + tag + "] " + message, exception);
+		if(logger.isEnabled(LogLevel.DEBUG))
+			logger.debug("[" + tag + "] " + message, exception);
 	}
 }
@@ -107,6 +107,26 @@ public class JLogger implements Logger {
 		}
 	}
 
+	@Override
+	public boolean isEnabled(LogLevel logLevel) {
+		switch(logLevel) {
+			case DEBUG:
+				return jLogger.isLoggable(java.util.logging.Level.FINE);
+
+			case INFO:
+				return jLogger.isLoggable(java.util.logging.Level.INFO);
+
+			case WARNING:
+				return jLogger.isLoggable(java.util.logging.Level.WARNING);
+
+			case ERROR:
+				return jLogger.isLoggable(java.util.logging.Level.SEVERE);
+
+			default:
+				return false;
+		}
+	}
+
 	public java.util.logging.Logger getInternalLogger() {
 		return jLogger;
 	}
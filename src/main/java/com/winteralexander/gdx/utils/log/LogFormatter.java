@@ -0,0 +1,104 @@
+package com.winteralexander.gdx.utils.log;
+
+/**
+ * Formats the message templates of the parameterized methods of {@link Logger},
+ * replacing each "{}" with the next argument. Extra arguments are ignored and
+ * placeholders without an argument are kept as is.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class LogFormatter {
+	private static final String PLACEHOLDER = "{}";
+
+	private LogFormatter() {}
+
+	public static String format(String template, Object arg) {
+		StringBuilder sb = new StringBuilder(template.length() + 16);
+		int from = appendUntilPlaceholder(sb, template, 0);
+		if(from != -1) {
+			sb.append(arg);
+			appendRest(sb, template, from);
+		}
+		return sb.toString();
+	}
+
+	public static String format(String template, long arg) {
+		StringBuilder sb = new StringBuilder(template.length() + 16);
+		int from = appendUntilPlaceholder(sb, template, 0);
+		if(from != -1) {
+			sb.append(arg);
+			appendRest(sb, template, from);
+		}
+		return sb.toString();
+	}
+
+	public static String format(String template, float arg) {
+		StringBuilder sb = new StringBuilder(template.length() + 16);
+		int from = appendUntilPlaceholder(sb, template, 0);
+		if(from != -1) {
+			sb.append(arg);
+			appendRest(sb, template, from);
+		}
+		return sb.toString();
+	}
+
+	public static String format(String template, double arg) {
+		StringBuilder sb = new StringBuilder(template.length() + 16);
+		int from = appendUntilPlaceholder(sb, template, 0);
+		if(from != -1) {
+			sb.append(arg);
+			appendRest(sb, template, from);
+		}
+		return sb.toString();
+	}
+
+	public static String format(String template, long arg1, long arg2) {
+		StringBuilder sb = new StringBuilder(template.length() + 32);
+		int from = appendUntilPlaceholder(sb, template, 0);
+		if(from != -1) {
+			sb.append(arg1);
+			from = appendUntilPlaceholder(sb, template, from);
+			if(from != -1) {
+				sb.append(arg2);
+				appendRest(sb, template, from);
+			}
+		}
+		return sb.toString();
+	}
+
+	public static String format(String template, Object... args) {
+		StringBuilder sb = new StringBuilder(template.length() + 16 * args.length);
+		int from = 0;
+		for(Object arg : args) {
+			from = appendUntilPlaceholder(sb, template, from);
+			if(from == -1)
+				return sb.toString();
+			sb.append(arg);
+		}
+		appendRest(sb, template, from);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends the template up to the next placeholder
+	 *
+	 * @return index after the placeholder, or -1 if there was none and the
+	 * rest of the template was appended
+	 */
+	private static int appendUntilPlaceholder(StringBuilder sb, String template, int from) {
+		int index = template.indexOf(PLACEHOLDER, from);
+		if(index == -1) {
+			sb.append(template, from, template.length());
+			return -1;
+		}
+
+		sb.append(template, from, index);
+		return index + PLACEHOLDER.length();
+	}
+
+	private static void appendRest(StringBuilder sb, String template, int from) {
+		sb.append(template, from, template.length());
+	}
+}
@@ -82,6 +82,19 @@ public class LogMultiplexer implements Logger {
 		return logLevel;
 	}
 
+	/**
+	 * Lazy and parameterized messages are built once if any of the loggers
+	 * logs their level, then forwarded to all of them
+	 */
+	@Override
+	public boolean isEnabled(LogLevel logLevel) {
+		for(Logger logger : loggers)
+			if(logger.isEnabled(logLevel))
+				return true;
+
+		return false;
+	}
+
 	public Logger[] getLoggers() {
 		return loggers;
 	}
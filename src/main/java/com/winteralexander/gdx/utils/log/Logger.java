@@ -2,10 +2,20 @@ package com.winteralexander.gdx.utils.log;
 
 import com.winteralexander.gdx.utils.EnumConstantCache;
 
+import java.util.function.Supplier;
+
 /**
  * A model for an object to log ouput.
  * Used by classes that should be reused amount multiple projects.
  * <p>
+ * Messages can be given as a {@link Supplier} or as a template whose "{}" are
+ * replaced by the arguments, in which case nothing is built unless the level
+ * is enabled. Overloads taking primitives avoid boxing, char arguments are
+ * formatted as numbers unless passed as {@link Character}. Templates take up
+ * to three arguments, longer messages can be built by a {@link Supplier}. A
+ * {@link Throwable} given as the last of several arguments is logged as the
+ * exception of the message rather than formatted, like with SLF4J.
+ * <p>
  * Created on 2016-10-24.
  *
  * @author Alexander Winter
@@ -15,22 +25,254 @@ public interface Logger {
 
 	void debug(String message, Throwable ex);
 
+	default void debug(Supplier<String> message) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(message.get());
+	}
+
+	default void debug(Supplier<String> message, Throwable ex) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(message.get(), ex);
+	}
+
+	default void debug(String template, Object arg) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(LogFormatter.format(template, arg));
+	}
+
+	default void debug(String template, long arg) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(LogFormatter.format(template, arg));
+	}
+
+	default void debug(String template, float arg) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(LogFormatter.format(template, arg));
+	}
+
+	default void debug(String template, double arg) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(LogFormatter.format(template, arg));
+	}
+
+	default void debug(String template, Object arg1, Object arg2) {
+		if(!isEnabled(LogLevel.DEBUG))
+			return;
+
+		if(arg2 instanceof Throwable)
+			debug(LogFormatter.format(template, arg1), (Throwable)arg2);
+		else
+			debug(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void debug(String template, long arg1, long arg2) {
+		if(isEnabled(LogLevel.DEBUG))
+			debug(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void debug(String template, Object arg1, Object arg2, Object arg3) {
+		if(!isEnabled(LogLevel.DEBUG))
+			return;
+
+		if(arg3 instanceof Throwable)
+			debug(LogFormatter.format(template, arg1, arg2), (Throwable)arg3);
+		else
+			debug(LogFormatter.format(template, arg1, arg2, arg3));
+	}
+
 	void info(String message);
 
 	void info(String message, Throwable ex);
 
+	default void info(Supplier<String> message) {
+		if(isEnabled(LogLevel.INFO))
+			info(message.get());
+	}
+
+	default void info(Supplier<String> message, Throwable ex) {
+		if(isEnabled(LogLevel.INFO))
+			info(message.get(), ex);
+	}
+
+	default void info(String template, Object arg) {
+		if(isEnabled(LogLevel.INFO))
+			info(LogFormatter.format(template, arg));
+	}
+
+	default void info(String template, long arg) {
+		if(isEnabled(LogLevel.INFO))
+			info(LogFormatter.format(template, arg));
+	}
+
+	default void info(String template, float arg) {
+		if(isEnabled(LogLevel.INFO))
+			info(LogFormatter.format(template, arg));
+	}
+
+	default void info(String template, double arg) {
+		if(isEnabled(LogLevel.INFO))
+			info(LogFormatter.format(template, arg));
+	}
+
+	default void info(String template, Object arg1, Object arg2) {
+		if(!isEnabled(LogLevel.INFO))
+			return;
+
+		if(arg2 instanceof Throwable)
+			info(LogFormatter.format(template, arg1), (Throwable)arg2);
+		else
+			info(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void info(String template, long arg1, long arg2) {
+		if(isEnabled(LogLevel.INFO))
+			info(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void info(String template, Object arg1, Object arg2, Object arg3) {
+		if(!isEnabled(LogLevel.INFO))
+			return;
+
+		if(arg3 instanceof Throwable)
+			info(LogFormatter.format(template, arg1, arg2), (Throwable)arg3);
+		else
+			info(LogFormatter.format(template, arg1, arg2, arg3));
+	}
+
 	void warn(String message);
 
 	void warn(String message, Throwable ex);
 
+	default void warn(Supplier<String> message) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(message.get());
+	}
+
+	default void warn(Supplier<String> message, Throwable ex) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(message.get(), ex);
+	}
+
+	default void warn(String template, Object arg) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(LogFormatter.format(template, arg));
+	}
+
+	default void warn(String template, long arg) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(LogFormatter.format(template, arg));
+	}
+
+	default void warn(String template, float arg) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(LogFormatter.format(template, arg));
+	}
+
+	default void warn(String template, double arg) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(LogFormatter.format(template, arg));
+	}
+
+	default void warn(String template, Object arg1, Object arg2) {
+		if(!isEnabled(LogLevel.WARNING))
+			return;
+
+		if(arg2 instanceof Throwable)
+			warn(LogFormatter.format(template, arg1), (Throwable)arg2);
+		else
+			warn(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void warn(String template, long arg1, long arg2) {
+		if(isEnabled(LogLevel.WARNING))
+			warn(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void warn(String template, Object arg1, Object arg2, Object arg3) {
+		if(!isEnabled(LogLevel.WARNING))
+			return;
+
+		if(arg3 instanceof Throwable)
+			warn(LogFormatter.format(template, arg1, arg2), (Throwable)arg3);
+		else
+			warn(LogFormatter.format(template, arg1, arg2, arg3));
+	}
+
 	void error(String message);
 
 	void error(String message, Throwable ex);
 
+	default void error(Supplier<String> message) {
+		if(isEnabled(LogLevel.ERROR))
+			error(message.get());
+	}
+
+	default void error(Supplier<String> message, Throwable ex) {
+		if(isEnabled(LogLevel.ERROR))
+			error(message.get(), ex);
+	}
+
+	default void error(String template, Object arg) {
+		if(isEnabled(LogLevel.ERROR))
+			error(LogFormatter.format(template, arg));
+	}
+
+	default void error(String template, long arg) {
+		if(isEnabled(LogLevel.ERROR))
+			error(LogFormatter.format(template, arg));
+	}
+
+	default void error(String template, float arg) {
+		if(isEnabled(LogLevel.ERROR))
+			error(LogFormatter.format(template, arg));
+	}
+
+	default void error(String template, double arg) {
+		if(isEnabled(LogLevel.ERROR))
+			error(LogFormatter.format(template, arg));
+	}
+
+	default void error(String template, Object arg1, Object arg2) {
+		if(!isEnabled(LogLevel.ERROR))
+			return;
+
+		if(arg2 instanceof Throwable)
+			error(LogFormatter.format(template, arg1), (Throwable)arg2);
+		else
+			error(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void error(String template, long arg1, long arg2) {
+		if(isEnabled(LogLevel.ERROR))
+			error(LogFormatter.format(template, arg1, arg2));
+	}
+
+	default void error(String template, Object arg1, Object arg2, Object arg3) {
+		if(!isEnabled(LogLevel.ERROR))
+			return;
+
+		if(arg3 instanceof Throwable)
+			error(LogFormatter.format(template, arg1, arg2), (Throwable)arg3);
+		else
+			error(LogFormatter.format(template, arg1, arg2, arg3));
+	}
+
 	void setLogLevel(LogLevel logLevel);
 
 	LogLevel getLogLevel();
 
+	/**
+	 * Checks if messages of the specified level are logged, the lazy and
+	 * parameterized methods return before building their message otherwise
+	 *
+	 * @param logLevel level of the message
+	 * @return true if messages of this level are logged, otherwise false
+	 */
+	default boolean isEnabled(LogLevel logLevel) {
+		LogLevel current = getLogLevel();
+		return current != null && current.ordinal() >= logLevel.ordinal();
+	}
+
 	enum LogLevel {
 		NONE,
 		ERROR,
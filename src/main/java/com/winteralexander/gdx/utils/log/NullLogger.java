@@ -41,4 +41,9 @@ public class NullLogger implements Logger {
 	public LogLevel getLogLevel() {
 		return null;
 	}
+
+	@Override
+	public boolean isEnabled(LogLevel logLevel) {
+		return false;
+	}
 }
@@ -0,0 +1,143 @@
+package com.winteralexander.gdx.utils.memory;
+
+import com.winteralexander.gdx.utils.log.Logger;
+import com.winteralexander.gdx.utils.log.NullLogger;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static com.winteralexander.gdx.utils.ObjectUtil.firstNonNull;
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+import static com.winteralexander.gdx.utils.Validation.ensurePositive;
+
+/**
+ * Detects objects which are garbage collected without having been closed, such
+ * as an async call that was never executed. Uses phantom references instead of
+ * finalizers, so tracked objects are collected in a single GC cycle and objects
+ * which aren't sampled have no overhead at all.
+ * <p>
+ * Leaks are reported to the logger the next time an object is tracked.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class LeakDetector {
+	/**
+	 * Sampling interval disabling leak detection
+	 */
+	public static final int DISABLED = 0;
+
+	/**
+	 * Sampling interval tracking every object
+	 */
+	public static final int ALL = 1;
+
+	private final String message;
+	private Logger logger;
+
+	private volatile int samplingInterval;
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	private final Set<Leak> tracked = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+	/**
+	 * @param message message logged when a leak is detected
+	 * @param logger logger to report the leaks to
+	 * @param samplingInterval 1 out of how many objects are tracked, 0 to disable
+	 */
+	public LeakDetector(String message, Logger logger, int samplingInterval) {
+		ensureNotNull(message, "message");
+		this.message = message;
+		setLogger(logger);
+		setSamplingInterval(samplingInterval);
+	}
+
+	/**
+	 * Starts tracking an object if it is sampled. The returned leak must be
+	 * closed once the object is used properly, otherwise a leak is reported
+	 * once the object is garbage collected.
+	 *
+	 * @param object object to track
+	 * @param origin supplies the stack trace of where the object was created,
+	 * only called if a leak is reported
+	 * @return leak to close, or null if the object isn't tracked
+	 */
+	public Leak track(Object object, Supplier<? extends Throwable> origin) {
+		int interval = samplingInterval;
+		if(interval == DISABLED)
+			return null;
+
+		reportLeaks();
+
+		if(interval != ALL && ThreadLocalRandom.current().nextInt(interval) != 0)
+			return null;
+
+		Leak leak = new Leak(object, queue, origin, this);
+		tracked.add(leak);
+		return leak;
+	}
+
+	private void reportLeaks() {
+		Reference<?> reference;
+		while((reference = queue.poll()) != null) {
+			Leak leak = (Leak)reference;
+			if(tracked.remove(leak))
+				logger.error(message, leak.origin.get());
+		}
+	}
+
+	/**
+	 * @return number of objects currently tracked
+	 */
+	public int getTrackedCount() {
+		return tracked.size();
+	}
+
+	public int getSamplingInterval() {
+		return samplingInterval;
+	}
+
+	/**
+	 * @param samplingInterval 1 out of how many objects are tracked, 0 to disable
+	 */
+	public void setSamplingInterval(int samplingInterval) {
+		ensurePositive(samplingInterval, "samplingInterval");
+		this.samplingInterval = samplingInterval;
+	}
+
+	public void setLogger(Logger logger) {
+		this.logger = firstNonNull(logger, new NullLogger());
+	}
+
+	/**
+	 * Handle of an object tracked by a {@link LeakDetector}
+	 */
+	public static class Leak extends PhantomReference<Object> {
+		private final Supplier<? extends Throwable> origin;
+		private final LeakDetector detector;
+
+		private Leak(Object referent,
+				ReferenceQueue<Object> queue,
+				Supplier<? extends Throwable> origin,
+				LeakDetector detector) {
+			super(referent, queue);
+			this.origin = origin;
+			this.detector = detector;
+		}
+
+		/**
+		 * Marks the tracked object as properly used, it will not be reported
+		 */
+		public void close() {
+			if(detector.tracked.remove(this))
+				clear();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * {@link TaskQueue} storing tasks in an array in the order they were added.
+ * Adding a task is O(1), but finding the due tasks and the next deadline walks
+ * every task. Due tasks are polled in the order they were added. Best suited to
+ * schedulers with few tasks, most of which are due at every update.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class ArrayTaskQueue implements TaskQueue {
+	private final Array<Task> tasks = new Array<>(true, 16);
+	private long[] deadlines = new long[16];
+
+	@Override
+	public void add(Task task, long deadline) {
+		if(tasks.size == deadlines.length) {
+			long[] newDeadlines = new long[deadlines.length * 2];
+			System.arraycopy(deadlines, 0, newDeadlines, 0, tasks.size);
+			deadlines = newDeadlines;
+		}
+
+		deadlines[tasks.size] = deadline;
+		tasks.add(task);
+	}
+
+	@Override
+	public boolean remove(Task task) {
+		int index = tasks.indexOf(task, true);
+		if(index == -1)
+			return false;
+
+		removeIndex(index);
+		return true;
+	}
+
+	@Override
+	public boolean contains(Task task) {
+		return tasks.contains(task, true);
+	}
+
+	@Override
+	public void pollDue(long time, Array<Task> out) {
+		// compacts the remaining tasks in a single pass, keeping their order
+		int kept = 0;
+		for(int i = 0; i < tasks.size; i++) {
+			Task task = tasks.get(i);
+			if(deadlines[i] <= time) {
+				out.add(task);
+				continue;
+			}
+
+			tasks.set(kept, task);
+			deadlines[kept] = deadlines[i];
+			kept++;
+		}
+		tasks.truncate(kept);
+	}
+
+	private void removeIndex(int index) {
+		System.arraycopy(deadlines, index + 1, deadlines, index, tasks.size - index - 1);
+		tasks.removeIndex(index);
+	}
+
+	@Override
+	public long getNextDeadline() {
+		long next = Long.MAX_VALUE;
+		for(int i = 0; i < tasks.size; i++)
+			if(deadlines[i] < next)
+				next = deadlines[i];
+		return next;
+	}
+
+	@Override
+	public int size() {
+		return tasks.size;
+	}
+
+	@Override
+	public void clear() {
+		tasks.clear();
+	}
+}
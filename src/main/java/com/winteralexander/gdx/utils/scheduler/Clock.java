@@ -0,0 +1,23 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+/**
+ * Source of time of a {@link Scheduler}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ * @see VirtualClock
+ */
+@FunctionalInterface
+public interface Clock {
+	/**
+	 * Clock following {@link System#nanoTime()}
+	 */
+	Clock SYSTEM = System::nanoTime;
+
+	/**
+	 * @return current time in nanoseconds, only meaningful relative to other
+	 * times of the same clock
+	 */
+	long nanoTime();
+}
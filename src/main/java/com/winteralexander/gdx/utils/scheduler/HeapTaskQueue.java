@@ -0,0 +1,149 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * {@link TaskQueue} ordering tasks by deadline in a binary heap. Adding and
+ * cancelling a task is O(log n), getting the next deadline is O(1) and polling
+ * only touches the due tasks, which makes it suited to schedulers with a large
+ * amount of mostly idle timers. Tasks with the same deadline are polled in the
+ * order they were added.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class HeapTaskQueue implements TaskQueue {
+	private Task[] heap = new Task[16];
+	private long[] deadlines = new long[16];
+
+	/**
+	 * Order in which the tasks were added, breaking ties between deadlines
+	 */
+	private long[] sequences = new long[16];
+	private long nextSequence = 0L;
+	private int size = 0;
+
+	@Override
+	public void add(Task task, long deadline) {
+		if(size == heap.length) {
+			Task[] newHeap = new Task[size * 2];
+			long[] newDeadlines = new long[size * 2];
+			long[] newSequences = new long[size * 2];
+			System.arraycopy(heap, 0, newHeap, 0, size);
+			System.arraycopy(deadlines, 0, newDeadlines, 0, size);
+			System.arraycopy(sequences, 0, newSequences, 0, size);
+			heap = newHeap;
+			deadlines = newDeadlines;
+			sequences = newSequences;
+		}
+
+		siftUp(size++, task, deadline, nextSequence++);
+	}
+
+	@Override
+	public boolean remove(Task task) {
+		if(!contains(task))
+			return false;
+
+		removeAt(task.queueIndex);
+		return true;
+	}
+
+	@Override
+	public boolean contains(Task task) {
+		int index = task.queueIndex;
+		return index >= 0 && index < size && heap[index] == task;
+	}
+
+	@Override
+	public void pollDue(long time, Array<Task> out) {
+		while(size > 0 && deadlines[0] <= time) {
+			out.add(heap[0]);
+			removeAt(0);
+		}
+	}
+
+	@Override
+	public long getNextDeadline() {
+		return size > 0 ? deadlines[0] : Long.MAX_VALUE;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		for(int i = 0; i < size; i++) {
+			heap[i].queueIndex = -1;
+			heap[i] = null;
+		}
+		size = 0;
+	}
+
+	private void removeAt(int index) {
+		heap[index].queueIndex = -1;
+		size--;
+
+		Task last = heap[size];
+		long lastDeadline = deadlines[size];
+		long lastSequence = sequences[size];
+		heap[size] = null;
+
+		if(index == size)
+			return;
+
+		siftDown(index, last, lastDeadline, lastSequence);
+		if(heap[index] == last)
+			siftUp(index, last, lastDeadline, lastSequence);
+	}
+
+	private void siftUp(int index, Task task, long deadline, long sequence) {
+		while(index > 0) {
+			int parent = (index - 1) >>> 1;
+			if(!isBefore(deadline, sequence, parent))
+				break;
+
+			set(index, heap[parent], deadlines[parent], sequences[parent]);
+			index = parent;
+		}
+		set(index, task, deadline, sequence);
+	}
+
+	private void siftDown(int index, Task task, long deadline, long sequence) {
+		int half = size >>> 1;
+		while(index < half) {
+			int child = (index << 1) + 1;
+			int right = child + 1;
+			if(right < size && isBefore(deadlines[right], sequences[right], child))
+				child = right;
+
+			if(!isBefore(deadlines[child], sequences[child], deadline, sequence))
+				break;
+
+			set(index, heap[child], deadlines[child], sequences[child]);
+			index = child;
+		}
+		set(index, task, deadline, sequence);
+	}
+
+	private boolean isBefore(long deadline, long sequence, int index) {
+		return isBefore(deadline, sequence, deadlines[index], sequences[index]);
+	}
+
+	private static boolean isBefore(long deadline,
+			long sequence,
+			long otherDeadline,
+			long otherSequence) {
+		return deadline < otherDeadline || deadline == otherDeadline && sequence < otherSequence;
+	}
+
+	private void set(int index, Task task, long deadline, long sequence) {
+		heap[index] = task;
+		deadlines[index] = deadline;
+		sequences[index] = sequence;
+		task.queueIndex = index;
+	}
+}
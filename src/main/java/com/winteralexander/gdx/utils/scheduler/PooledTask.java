@@ -0,0 +1,66 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+import java.util.function.Consumer;
+
+/**
+ * One-shot task reused by its {@link Scheduler} once it ran or was cancelled.
+ * Never exposed outside of the scheduler, which refers to it through a handle
+ * made of its id and generation, so a stale handle can't cancel the task after
+ * it was reused.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+class PooledTask extends Task {
+	final int id;
+	int generation = 0;
+	boolean scheduled = false;
+
+	private Runnable runnable = null;
+	private Consumer<Object> consumer = null;
+	private Object value = null;
+
+	public PooledTask(int id) {
+		super(0L, false, null);
+		this.id = id;
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> void set(long delay, Runnable runnable, Consumer<T> consumer, T value) {
+		setDelayNanos(delay);
+		this.runnable = runnable;
+		this.consumer = (Consumer<Object>)consumer;
+		this.value = value;
+		scheduled = true;
+	}
+
+	void reset() {
+		runnable = null;
+		consumer = null;
+		value = null;
+		scheduled = false;
+		generation++;
+	}
+
+	long getHandle() {
+		return (long)generation << 32 | id & 0xFFFFFFFFL;
+	}
+
+	@Override
+	public String getName() {
+		if(consumer != null)
+			return consumer.getClass().getName();
+		if(runnable != null)
+			return runnable.getClass().getName();
+		return super.getName();
+	}
+
+	@Override
+	public void run() {
+		if(consumer != null)
+			consumer.accept(value);
+		else if(runnable != null)
+			runnable.run();
+	}
+}
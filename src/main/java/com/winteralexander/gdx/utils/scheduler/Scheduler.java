@@ -5,26 +5,77 @@ import com.winteralexander.gdx.utils.Validation;
 import com.winteralexander.gdx.utils.async.CallbackWrapper;
 import com.winteralexander.gdx.utils.log.Logger;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
-import static java.lang.System.currentTimeMillis;
-
 /**
  * Represents a scheduler executing tasks at a defined time
  * <p>
+ * Time is measured with a {@link Clock}, {@link Clock#SYSTEM} by default. A
+ * {@link VirtualClock} lets {@link #simulate(long)} run tasks as fast as
+ * possible instead of waiting for them. Repeating tasks run on a
+ * fixed timestep, each turn being scheduled exactly one delay after the
+ * previous one regardless of when it actually ran, so they don't drift. Turns
+ * a task falls behind on are caught up according to the maximum catch-up and
+ * {@link CatchUpPolicy} of the scheduler.
+ * <p>
  * Created on 2016-12-16.
  *
  * @author Alexander Winter
  * @see Task
  */
 public class Scheduler implements CallbackWrapper {
+	private static final long MIN_SIMULATION_STEP = TimeUnit.MILLISECONDS.toNanos(1L);
+
 	private final Logger logger;
 
-	private final Array<Task> tasks = new Array<>(false, 16), tmpTasks = new Array<>(false, 16);
-	private final Array<Task> toRemove = new Array<>(false, 16);
+	private final TaskQueue queue;
+	private final Clock clock;
+	private final Array<Task> dueTasks = new Array<>(false, 16);
+	private final Array<Task> toReschedule = new Array<>(false, 16);
+
+	/**
+	 * One-shot tasks that came due while still executing, added back to the
+	 * queue once their run is done
+	 */
+	private final Array<Task> heldBack = new Array<>(false, 16);
+
+	/**
+	 * Every pooled task created by this scheduler, by id, and the ones free
+	 * to be reused
+	 */
+	private final Array<PooledTask> pooledTasks = new Array<>(true, 16);
+	private final Array<PooledTask> freeTasks = new Array<>(false, 16);
+
+	/**
+	 * Executor running the due tasks, or null to run them in update
+	 */
+	private volatile Executor executor = null;
+	private volatile Executor[] affinityExecutors = new Executor[0];
+
+	/**
+	 * Maximum amount of turns a repeating task runs in a single update
+	 */
+	private volatile int maxCatchUp = Integer.MAX_VALUE;
+	private volatile CatchUpPolicy catchUpPolicy = CatchUpPolicy.BACKLOG;
+	private volatile long overruns = 0L;
+
+	/**
+	 * Profile of the tasks, or null if they aren't profiled
+	 */
+	private volatile SchedulerMetrics metrics = null;
+	private volatile long slowTaskNanos = Long.MAX_VALUE;
 
+	// in nanoseconds
 	private long pauseLength = 0, lastPause;
+
+	/**
+	 * Difference between the epoch and the clock, in nanoseconds, so that the
+	 * execution time of a scheduler on the system clock is since epoch
+	 */
+	private final long epochOffset;
 	private volatile boolean running = false, updating = false;
 
 	/**
@@ -33,11 +84,42 @@ public class Scheduler implements CallbackWrapper {
 	 * @param logger logger, can be null
 	 */
 	public Scheduler(Logger logger) {
+		this(logger, new ArrayTaskQueue());
+	}
+
+	/**
+	 * Creating a new scheduler stopped by default with a logger, storing its
+	 * tasks in the specified queue. A {@link HeapTaskQueue} should be used for
+	 * schedulers with a lot of tasks.
+	 *
+	 * @param logger logger, can be null
+	 * @param queue queue to store the tasks in, must be empty
+	 */
+	public Scheduler(Logger logger, TaskQueue queue) {
+		this(logger, queue, Clock.SYSTEM);
+	}
+
+	/**
+	 * Creating a new scheduler stopped by default with a logger, storing its
+	 * tasks in the specified queue and measuring time with the specified clock
+	 *
+	 * @param logger logger, can be null
+	 * @param queue queue to store the tasks in, must be empty
+	 * @param clock clock measuring the time of the scheduler
+	 */
+	public Scheduler(Logger logger, TaskQueue queue, Clock clock) {
 		Validation.ensureNotNull(logger, "logger");
+		Validation.ensureNotNull(queue, "queue");
+		Validation.ensureNotNull(clock, "clock");
 
 		this.logger = logger;
+		this.queue = queue;
+		this.clock = clock;
 
-		lastPause = currentTimeMillis();
+		lastPause = clock.nanoTime();
+		epochOffset = clock == Clock.SYSTEM
+				? TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - lastPause
+				: 0L;
 	}
 
 	/**
@@ -46,17 +128,20 @@ public class Scheduler implements CallbackWrapper {
 	 * Update won't work if the scheduler isn't started
 	 */
 	public void start() {
+		if(running)
+			return;
+
+		pauseLength += clock.nanoTime() - lastPause;
 		running = true;
-		pauseLength += currentTimeMillis() - lastPause;
 	}
 
 	/**
 	 * Stops the scheduler
 	 */
 	public void stop() {
-		if(!running) {
+		if(running) {
+			lastPause = clock.nanoTime();
 			running = false;
-			lastPause = currentTimeMillis();
 		}
 	}
 
@@ -65,14 +150,14 @@ public class Scheduler implements CallbackWrapper {
 			start();
 
 		while(condition.getAsBoolean()) {
-			long toWait = getWaitingDelay();
+			long toWait = getWaitingDelayNanos();
 			if(toWait > 0) {
 				try {
 					synchronized(this) {
 						if(toWait == Long.MAX_VALUE)
 							wait(0);
 						else
-							wait(toWait);
+							TimeUnit.NANOSECONDS.timedWait(this, toWait);
 					}
 				} catch(InterruptedException ex) {
 					logger.error("Unexpected exception occurred while waiting in Scheduler lopp",
@@ -83,110 +168,404 @@ public class Scheduler implements CallbackWrapper {
 		}
 	}
 
+	/**
+	 * Runs the tasks due in the specified amount of time without waiting for
+	 * them, advancing the {@link VirtualClock} of this scheduler straight to
+	 * each deadline. Tasks run in the same order as they would in real time and
+	 * the result only depends on the tasks and the order they were added in, as
+	 * long as no executor is set.
+	 * <p>
+	 * Tasks without a delay run once per update, so the clock is advanced by a
+	 * millisecond when they are the only ones due.
+	 *
+	 * @param duration time to simulate, in milliseconds
+	 * @throws IllegalStateException if the clock of this scheduler isn't a
+	 * {@link VirtualClock}
+	 */
+	public void simulate(long duration) {
+		Validation.ensurePositive(duration, "duration");
+		if(!(clock instanceof VirtualClock))
+			throw new IllegalStateException("Only schedulers with a VirtualClock can simulate");
+
+		VirtualClock virtualClock = (VirtualClock)clock;
+		if(!isRunning())
+			start();
+
+		update();
+
+		long remaining = TimeUnit.MILLISECONDS.toNanos(duration);
+		while(remaining > 0L && isRunning()) {
+			long toWait = getWaitingDelayNanos();
+			long step = Math.min(toWait > 0L ? toWait : MIN_SIMULATION_STEP, remaining);
+
+			virtualClock.advance(step);
+			remaining -= step;
+			update();
+		}
+	}
+
 	public void update() {
 		if(!running)
 			return;
 
 		updating = true;
-		tmpTasks.size = 0;
+		long time = executionTimeNanos();
+		Executor executor = this.executor;
 
 		synchronized(this) {
-			tmpTasks.addAll(tasks);
+			queue.pollDue(time, dueTasks);
+			for(int i = 0; i < dueTasks.size; i++)
+				dueTasks.get(i).polled = true;
 		}
 
-		for(Task task : tmpTasks) {
+		for(int i = 0; i < dueTasks.size; i++) {
+			Task task = dueTasks.get(i);
 			try {
-				if(task == null)
-					break; // it means we reached the end of valid data in the array.
+				if(task.getScheduler() != this)
+					continue;
 
-				if(task.getScheduler() != this) {
-					toRemove.add(task);
+				if(executor != null) {
+					dispatch(task, time, executor);
 					continue;
 				}
 
-				if(task.getDelay() == 0) {
-					task.run();
-					if(!task.isRepeating())
-						toRemove.add(task);
+				if(!task.isRepeating()) {
+					try {
+						runTurn(task, time - task.lastWork - task.getDelayNanos());
+					} finally {
+						release(task);
+					}
 					continue;
 				}
 
-				int turns = (int)((executionTime() - task.getLastWork()) / task.getDelay());
-				if(!task.isRepeating() && turns >= 1) {
-					task.run();
-					toRemove.add(task);
+				if(task.getDelayNanos() == 0) {
+					runTurn(task, 0L);
+					toReschedule.add(task);
 					continue;
 				}
 
-				for(int i = 0; i < turns; i++)
-					task.run();
+				long lateness = time - task.lastWork - task.getDelayNanos();
+				int turns = takeTurns(task, time);
+				for(int j = 0; j < turns; j++)
+					runTurn(task, lateness - j * task.getDelayNanos());
 
-				task.setLastWork(task.getLastWork() + task.getDelay() * turns);
+				toReschedule.add(task);
 			} catch(Exception ex) {
-				toRemove.add(task);
 				logger.error("Error in scheduler with task " + task, ex);
 			}
 		}
 
 		synchronized(this) {
-			tasks.removeAll(toRemove, true);
+			// tasks cancelled while running are no longer polled
+			for(int i = 0; i < toReschedule.size; i++) {
+				Task task = toReschedule.get(i);
+				if(task.polled)
+					queue.add(task, task.lastWork + task.getDelayNanos());
+			}
+
+			for(int i = 0; i < dueTasks.size; i++)
+				dueTasks.get(i).polled = false;
+			dueTasks.clear();
 		}
 
-		toRemove.clear();
+		toReschedule.clear();
 
 		updating = false;
 	}
 
 	/**
-	 * Retrieves the time until the next time the scheduler should be updated
+	 * Computes how many turns a due repeating task runs in this update and
+	 * moves its last work forward accordingly
+	 *
+	 * @param task due repeating task with a delay
+	 * @param time current execution time in nanoseconds
+	 * @return amount of turns to run
+	 */
+	private int takeTurns(Task task, long time) {
+		long due = (time - task.lastWork) / task.getDelayNanos();
+		long turns = Math.min(due, maxCatchUp);
+
+		if(turns < due && catchUpPolicy == CatchUpPolicy.SKIP) {
+			task.lastWork += task.getDelayNanos() * due;
+			addOverruns(task, due - turns);
+		} else
+			task.lastWork += task.getDelayNanos() * turns;
+
+		return (int)turns;
+	}
+
+	private void addOverruns(Task task, long count) {
+		task.addOverruns(count);
+		overruns += count;
+
+		SchedulerMetrics metrics = this.metrics;
+		if(metrics != null)
+			metrics.getTaskStats(task.getName()).onOverrun(count);
+	}
+
+	/**
+	 * Runs a single turn of a task, profiling it if needed
 	 *
-	 * @return time between now and next update
+	 * @param task task to run
+	 * @param lateness time between when the turn was scheduled and now, in
+	 * nanoseconds
 	 */
-	public synchronized long getWaitingDelay() {
-		long minDelay = Long.MAX_VALUE;
+	private void runTurn(Task task, long lateness) {
+		SchedulerMetrics metrics = this.metrics;
+		long slowTaskNanos = this.slowTaskNanos;
+		if(metrics == null && slowTaskNanos == Long.MAX_VALUE) {
+			task.run();
+			return;
+		}
+
+		boolean threw = true;
+		long start = System.nanoTime();
+		try {
+			task.run();
+			threw = false;
+		} finally {
+			long duration = System.nanoTime() - start;
+			if(metrics != null)
+				metrics.getTaskStats(task.getName()).onRun(lateness, duration, threw);
+
+			if(duration >= slowTaskNanos)
+				logger.warn("Slow task " + task.getName() + " took "
+						+ duration / 1_000_000f + "ms to run, "
+						+ lateness / 1_000_000f + "ms late");
+		}
+	}
 
-		for(Task task : tasks) {
-			if(task == null)
-				continue;
+	/**
+	 * Hands a due task to its executor, running all the turns it missed. If the
+	 * task is still executing from a previous dispatch, the turns of a repeating
+	 * task are skipped while a one-shot task is held back until that run is
+	 * done, as putting it back in the queue would make it due again right away.
+	 */
+	private void dispatch(Task task, long time, Executor executor) {
+		long lateness = task.getDelayNanos() > 0 || !task.isRepeating()
+				? time - task.lastWork - task.getDelayNanos()
+				: 0L;
+		int turns = 1;
+		if(task.isRepeating()) {
+			if(task.getDelayNanos() > 0)
+				turns = takeTurns(task, time);
+			toReschedule.add(task);
+		}
 
-			long delay = task.getLastWork() + task.getDelay() - executionTime();
-			if(delay < minDelay)
-				minDelay = delay;
+		if(task.isRepeating() && task.executing) {
+			addOverruns(task, turns);
+			return;
 		}
 
-		return minDelay;
+		if(!task.isRepeating()) {
+			synchronized(this) {
+				if(task.executing) {
+					// such as when re-added during its own run
+					if(task.polled)
+						heldBack.add(task);
+					return;
+				}
+			}
+		}
+
+		Executor target = executor;
+		Object affinity = task.getAffinity();
+		Executor[] affinityTargets = affinityExecutors;
+		if(affinity != null && affinityTargets.length > 0)
+			target = affinityTargets[(affinity.hashCode() & 0x7FFFFFFF) % affinityTargets.length];
+
+		task.executing = true;
+		int runs = turns;
+		try {
+			target.execute(() -> runDispatched(task, runs, lateness));
+		} catch(RuntimeException ex) {
+			task.executing = false;
+			if(!task.isRepeating())
+				release(task);
+			logger.error("Could not dispatch task " + task, ex);
+		}
+	}
+
+	private void runDispatched(Task task, int turns, long lateness) {
+		try {
+			for(int i = 0; i < turns; i++)
+				runTurn(task, lateness - i * task.getDelayNanos());
+		} catch(Exception ex) {
+			cancelTask(task);
+			logger.error("Error in scheduler with task " + task, ex);
+		} finally {
+			boolean requeued;
+			synchronized(this) {
+				task.executing = false;
+				requeued = heldBack.removeValue(task, true);
+				if(requeued) {
+					queue.add(task, task.lastWork + task.getDelayNanos());
+					notify();
+				}
+			}
+			if(!requeued && !task.isRepeating())
+				release(task);
+		}
+	}
+
+	/**
+	 * Returns a pooled task to the pool once it ran or was cancelled. The task
+	 * must no longer be in the queue.
+	 */
+	private synchronized void release(Task task) {
+		if(!(task instanceof PooledTask))
+			return;
+
+		PooledTask pooled = (PooledTask)task;
+		if(!pooled.scheduled)
+			return;
+
+		// going through cancelTask would release the task a second time
+		pooled.unregister();
+		pooled.reset();
+		freeTasks.add(pooled);
+	}
+
+	private synchronized <T> PooledTask obtain(long delay,
+			Runnable runnable,
+			Consumer<T> consumer,
+			T value) {
+		PooledTask task = freeTasks.size > 0
+				? freeTasks.pop()
+				: new PooledTask(pooledTasks.size);
+		if(task.id == pooledTasks.size)
+			pooledTasks.add(task);
+
+		task.set(delay, runnable, consumer, value);
+		return task;
+	}
+
+	/**
+	 * Retrieves the time until the next time the scheduler should be updated
+	 *
+	 * @return time between now and next update, in milliseconds rounded up
+	 */
+	public long getWaitingDelay() {
+		long delay = getWaitingDelayNanos();
+		if(delay == Long.MAX_VALUE)
+			return Long.MAX_VALUE;
+
+		return -Math.floorDiv(-delay, 1_000_000L);
+	}
+
+	/**
+	 * Retrieves the time until the next time the scheduler should be updated
+	 *
+	 * @return time between now and next update, in nanoseconds
+	 */
+	public synchronized long getWaitingDelayNanos() {
+		long nextDeadline = queue.getNextDeadline();
+		if(nextDeadline == Long.MAX_VALUE)
+			return Long.MAX_VALUE;
+
+		return nextDeadline - executionTimeNanos();
 	}
 
 	/**
-	 * Gets the time that has passed since the start of this scheduler. Pauses are substracted from
-	 * this time.
+	 * Gets the time that has passed since the epoch, like
+	 * {@link System#currentTimeMillis()}, for a scheduler on the system clock
+	 * or since the time 0 of its clock otherwise. Pauses, including the time
+	 * before the scheduler was first started, are substracted from this time.
+	 * The time is measured from the clock, so it doesn't follow adjustments of
+	 * the system time.
 	 *
 	 * @return time in milliseconds
 	 */
 	public long executionTime() {
+		return Math.floorDiv(executionTimeNanos(), 1_000_000L);
+	}
+
+	/**
+	 * Gets the execution time of this scheduler, see {@link #executionTime()}
+	 *
+	 * @return time in nanoseconds
+	 */
+	public long executionTimeNanos() {
 		if(!isRunning())
-			return lastPause - pauseLength;
-		return currentTimeMillis() - pauseLength;
+			return lastPause - pauseLength + epochOffset;
+		return clock.nanoTime() - pauseLength + epochOffset;
 	}
 
 	@Override
 	public <T> Consumer<T> wrap(Consumer<T> consumer) {
-		return t -> addTask(new Task(0, false) {
-			@Override
-			public void run() {
-				consumer.accept(t);
-			}
-		});
+		return t -> post(consumer, t);
+	}
+
+	/**
+	 * Runs a consumer with the specified value on the next update. Uses a
+	 * pooled task, so posting doesn't allocate once the pool is warm.
+	 *
+	 * @param consumer consumer to run
+	 * @param value value to give to the consumer
+	 * @param <T> type of the value
+	 */
+	public <T> void post(Consumer<T> consumer, T value) {
+		Validation.ensureNotNull(consumer, "consumer");
+		addTask(obtain(0L, null, consumer, value));
+	}
+
+	/**
+	 * Runs a runnable on the next update using a pooled task
+	 *
+	 * @param runnable runnable to run
+	 */
+	public void post(Runnable runnable) {
+		Validation.ensureNotNull(runnable, "runnable");
+		addTask(obtain(0L, runnable, null, null));
+	}
+
+	/**
+	 * Schedules a runnable to run once after the specified delay using a pooled
+	 * task
+	 *
+	 * @param runnable runnable to run
+	 * @param delay delay in milliseconds
+	 * @return handle to cancel the task with {@link #cancel(long)}, which stays
+	 * safe to use after the task ran and was reused
+	 */
+	public long schedule(Runnable runnable, long delay) {
+		Validation.ensureNotNull(runnable, "runnable");
+
+		PooledTask task = obtain(TimeUnit.MILLISECONDS.toNanos(delay), runnable, null, null);
+		long handle = task.getHandle();
+		addTask(task);
+		return handle;
+	}
+
+	/**
+	 * Cancels a task scheduled with {@link #schedule(Runnable, long)}
+	 *
+	 * @param handle handle of the task
+	 * @return true if the task was cancelled, false if it already ran or was
+	 * cancelled
+	 */
+	public synchronized boolean cancel(long handle) {
+		int id = (int)handle;
+		if(id < 0 || id >= pooledTasks.size)
+			return false;
+
+		PooledTask task = pooledTasks.get(id);
+		if(!task.scheduled || task.getHandle() != handle || !queue.remove(task))
+			return false;
+
+		release(task);
+		return true;
 	}
 
 	/**
-	 * Adds a task from the specified runnable and delay in milliseconds
+	 * Adds a one-shot task from the specified runnable and delay in
+	 * milliseconds, using a pooled task
 	 *
 	 * @param runnable runnable to execute
 	 * @param delay    delay in milliseconds
 	 */
 	public void addTask(Runnable runnable, long delay) {
-		addTask(runnable, delay, false);
+		schedule(runnable, delay);
 	}
 
 	/**
@@ -209,7 +588,7 @@ public class Scheduler implements CallbackWrapper {
 
 		task.register(this);
 		synchronized(this) {
-			tasks.add(task);
+			queue.add(task, task.lastWork + task.getDelayNanos());
 
 			if(!updating)
 				notify();
@@ -217,18 +596,164 @@ public class Scheduler implements CallbackWrapper {
 	}
 
 	public synchronized void cancelTask(Task task) {
-		tasks.removeValue(task, true);
+		// a running pooled task is released once it is done
+		if(queue.remove(task))
+			release(task);
+		else {
+			task.polled = false;
+			heldBack.removeValue(task, true);
+		}
 	}
 
 	public synchronized void clear() {
-		tasks.size = 0;
+		// running pooled tasks are released once they are done
+		for(int i = 0; i < pooledTasks.size; i++) {
+			PooledTask task = pooledTasks.get(i);
+			if(task.scheduled && !task.polled && !task.executing)
+				release(task);
+		}
+
+		queue.clear();
+		heldBack.clear();
+		for(int i = 0; i < dueTasks.size; i++)
+			dueTasks.get(i).polled = false;
 	}
 
 	public synchronized boolean contains(Task task) {
-		return tasks.contains(task, true);
+		return task.polled && task.getScheduler() == this
+				|| heldBack.contains(task, true)
+				|| queue.contains(task);
+	}
+
+	/**
+	 * @return amount of tasks waiting in this scheduler
+	 */
+	public synchronized int getTaskCount() {
+		return queue.size() + heldBack.size;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Starts or stops profiling the tasks of this scheduler
+	 *
+	 * @param metrics metrics to record the tasks in, or null to stop
+	 * profiling
+	 */
+	public void setMetrics(SchedulerMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @return metrics the tasks are recorded in, or null if they aren't
+	 * profiled
+	 */
+	public SchedulerMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Makes this scheduler log a warning whenever a turn of a task takes at
+	 * least the specified time to run
+	 *
+	 * @param threshold time in milliseconds, {@link Long#MAX_VALUE} to never
+	 * log slow tasks
+	 */
+	public void setSlowTaskThreshold(long threshold) {
+		Validation.ensurePositive(threshold, "threshold");
+		this.slowTaskNanos = TimeUnit.MILLISECONDS.toNanos(threshold);
+	}
+
+	/**
+	 * @return time in milliseconds a turn of a task takes to be logged as
+	 * slow, {@link Long#MAX_VALUE} if slow tasks aren't logged
+	 */
+	public long getSlowTaskThreshold() {
+		long slowTaskNanos = this.slowTaskNanos;
+		return slowTaskNanos == Long.MAX_VALUE
+				? Long.MAX_VALUE
+				: TimeUnit.NANOSECONDS.toMillis(slowTaskNanos);
+	}
+
+	/**
+	 * Makes this scheduler hand its due tasks to an executor instead of running
+	 * them in {@link #update()}, which only keeps track of time. A task never
+	 * runs concurrently with itself, turns of a repeating task coming due while
+	 * it is still running are skipped and one-shot tasks wait for it to be done.
+	 * <p>
+	 * Tasks with an affinity key always run on the same affinity executor,
+	 * chosen from the hash of their key. Affinity executors should be single
+	 * threaded for these tasks to stay on one thread.
+	 *
+	 * @param executor executor running the tasks, or null to run them in update
+	 * @param affinityExecutors executors running the tasks with an affinity key,
+	 * tasks with a key use the executor if none are specified
+	 */
+	public void setExecutor(Executor executor, Executor... affinityExecutors) {
+		Validation.ensureNoneNull(affinityExecutors, "affinityExecutors");
+		this.affinityExecutors = affinityExecutors.clone();
+		this.executor = executor;
+	}
+
+	public int getMaxCatchUp() {
+		return maxCatchUp;
+	}
+
+	/**
+	 * Limits how many turns a repeating task can run in a single update after
+	 * falling behind, such as after a GC pause, to avoid running it hundreds
+	 * of times back to back
+	 *
+	 * @param maxCatchUp maximum amount of turns per update
+	 */
+	public void setMaxCatchUp(int maxCatchUp) {
+		Validation.ensureStrictlyPositive(maxCatchUp, "maxCatchUp");
+		this.maxCatchUp = maxCatchUp;
+	}
+
+	public CatchUpPolicy getCatchUpPolicy() {
+		return catchUpPolicy;
+	}
+
+	/**
+	 * @param catchUpPolicy what happens to the turns over the maximum catch-up
+	 */
+	public void setCatchUpPolicy(CatchUpPolicy catchUpPolicy) {
+		Validation.ensureNotNull(catchUpPolicy, "catchUpPolicy");
+		this.catchUpPolicy = catchUpPolicy;
+	}
+
+	/**
+	 * @return total amount of turns skipped because tasks fell behind
+	 */
+	public long getOverrunCount() {
+		return overruns;
 	}
 
 	public boolean isRunning() {
 		return running;
 	}
+
+	/**
+	 * Decides what happens to the turns of a repeating task over the maximum
+	 * catch-up of its scheduler
+	 */
+	public enum CatchUpPolicy {
+		/**
+		 * Turns over the maximum are run in the next updates
+		 */
+		BACKLOG,
+
+		/**
+		 * Turns over the maximum are skipped and counted as overruns, the task
+		 * resumes from the current time
+		 */
+		SKIP
+	}
 }
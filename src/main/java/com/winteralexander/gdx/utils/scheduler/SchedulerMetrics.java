@@ -0,0 +1,192 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.utils.async.LatencyHistogram;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.winteralexander.gdx.utils.Validation.ensureNotNull;
+
+/**
+ * Runtime profile of the tasks of a {@link Scheduler}, broken down by task
+ * name. Collected once set on a scheduler with
+ * {@link Scheduler#setMetrics(SchedulerMetrics)} and meant to be polled
+ * periodically with {@link #snapshot()}.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ * @see Task#setName(String)
+ */
+public class SchedulerMetrics {
+	private final ConcurrentHashMap<String, TaskStats> tasks = new ConcurrentHashMap<>();
+
+	/**
+	 * @param name name of the tasks, see {@link Task#getName()}
+	 * @return profile of the tasks, created if missing
+	 */
+	public TaskStats getTaskStats(String name) {
+		ensureNotNull(name, "name");
+		return tasks.computeIfAbsent(name, TaskStats::new);
+	}
+
+	/**
+	 * @return snapshots of the profile of every task name
+	 */
+	public Array<TaskStatsSnapshot> snapshot() {
+		Array<TaskStatsSnapshot> snapshots = new Array<>(true, tasks.size());
+		for(TaskStats stats : tasks.values())
+			snapshots.add(stats.snapshot());
+		return snapshots;
+	}
+
+	/**
+	 * Resets the profile of all tasks
+	 */
+	public void reset() {
+		for(TaskStats stats : tasks.values())
+			stats.reset();
+	}
+
+	/**
+	 * Counters and timings of the tasks of a single name
+	 */
+	public static class TaskStats {
+		private final String name;
+
+		private final LongAdder runs = new LongAdder();
+		private final LongAdder overruns = new LongAdder();
+		private final LongAdder exceptions = new LongAdder();
+
+		/**
+		 * Time taken by each run of the tasks
+		 */
+		private final LatencyHistogram runTime = new LatencyHistogram();
+
+		/**
+		 * Time between when a turn was scheduled and when it ran
+		 */
+		private final LatencyHistogram lateness = new LatencyHistogram();
+
+		private TaskStats(String name) {
+			this.name = name;
+		}
+
+		void onRun(long latenessNanos, long durationNanos, boolean threw) {
+			runs.increment();
+			lateness.record(latenessNanos);
+			runTime.record(durationNanos);
+			if(threw)
+				exceptions.increment();
+		}
+
+		void onOverrun(long count) {
+			overruns.add(count);
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public TaskStatsSnapshot snapshot() {
+			return new TaskStatsSnapshot(name,
+					runs.sum(),
+					overruns.sum(),
+					exceptions.sum(),
+					runTime.snapshot(),
+					lateness.snapshot());
+		}
+
+		public void reset() {
+			runs.reset();
+			overruns.reset();
+			exceptions.reset();
+			runTime.reset();
+			lateness.reset();
+		}
+	}
+
+	/**
+	 * Immutable copy of the profile of the tasks of a name
+	 */
+	public static class TaskStatsSnapshot {
+		private final String name;
+		private final long runs, overruns, exceptions;
+		private final LatencyHistogram.Snapshot runTime, lateness;
+
+		private TaskStatsSnapshot(String name,
+				long runs,
+				long overruns,
+				long exceptions,
+				LatencyHistogram.Snapshot runTime,
+				LatencyHistogram.Snapshot lateness) {
+			this.name = name;
+			this.runs = runs;
+			this.overruns = overruns;
+			this.exceptions = exceptions;
+			this.runTime = runTime;
+			this.lateness = lateness;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return amount of turns run, each catch-up turn counting as one
+		 */
+		public long getRuns() {
+			return runs;
+		}
+
+		/**
+		 * @return amount of turns skipped because the tasks fell behind
+		 */
+		public long getOverruns() {
+			return overruns;
+		}
+
+		public long getExceptions() {
+			return exceptions;
+		}
+
+		/**
+		 * @return total time spent running the tasks, in nanoseconds
+		 */
+		public long getTotalRunTime() {
+			return runTime.getTotal();
+		}
+
+		/**
+		 * @return longest run of the tasks, in nanoseconds
+		 */
+		public long getMaxRunTime() {
+			return runTime.getMax();
+		}
+
+		/**
+		 * @return time taken by each run of the tasks, in nanoseconds
+		 */
+		public LatencyHistogram.Snapshot getRunTime() {
+			return runTime;
+		}
+
+		/**
+		 * @return time between when the turns were scheduled and when they
+		 * ran, in nanoseconds of scheduler time
+		 */
+		public LatencyHistogram.Snapshot getLateness() {
+			return lateness;
+		}
+
+		@Override
+		public String toString() {
+			return name + ": runs=" + runs
+					+ ", overruns=" + overruns
+					+ ", exceptions=" + exceptions
+					+ ", runTime=[" + runTime
+					+ "], lateness=[" + lateness + "]";
+		}
+	}
+}
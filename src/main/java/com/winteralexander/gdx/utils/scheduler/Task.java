@@ -1,23 +1,52 @@
 package com.winteralexander.gdx.utils.scheduler;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Represents a task to be executed in a scheduler
  * <p>
  * You can pass it a runnable OR redefine it's run method, both are fine
  * <p>
+ * Subclasses can also redefine {@link #getDelay()} to change their delay, in
+ * which case the delay has a precision of a millisecond.
+ * <p>
  * Created on 2016-12-16.
  *
  * @author Alexander Winter
  */
 public class Task implements Runnable {
+	/**
+	 * Whether a subclass of Task redefines {@link #getDelay()}
+	 */
+	private static final ClassValue<Boolean> delayOverridden = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("getDelay").getDeclaringClass() != Task.class;
+			} catch(NoSuchMethodException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	};
+
 	private Scheduler scheduler = null; // scheduler this task is scheduled on
 
-	private final long delay;		 // delay of the task (millis)
-	private long lastWork = -1L;	 // last time it got executed (millis)
+	private long delay;				 // delay of the task (nanos)
+	long lastWork = -1L;			 // last time it got executed (nanos)
+	private long overruns = 0L;		 // amount of turns skipped because the task fell behind
 	private final boolean repeating; // true if the task is meant to be repeated
 	private final Runnable
 			runnable; // content of the task, or null if task itself has been redefined
 
+	private final boolean customDelay; // true if getDelay is redefined
+	private Object affinity = null;  // key of the thread to run on when dispatched, or null
+	private String name = null;		 // name of the task in metrics and logs, or null
+
+	int queueIndex = -1;		 // index in the queue of its scheduler, if needed by the queue
+	boolean polled = false;		 // true while being run by an update of its scheduler
+	volatile boolean executing = false; // true while dispatched to an executor
+
 	public Task(long delay) {
 		this(delay, false);
 	}
@@ -27,9 +56,23 @@ public class Task implements Runnable {
 	}
 
 	public Task(long delay, boolean repeating, Runnable runnable) {
-		this.delay = delay;
+		this(delay, TimeUnit.MILLISECONDS, repeating, runnable);
+	}
+
+	/**
+	 * Creates a task with a delay more precise than milliseconds, such as for a
+	 * 60 Hz tick
+	 *
+	 * @param delay delay of the task
+	 * @param unit unit of the delay
+	 * @param repeating true if the task is repeated, otherwise false
+	 * @param runnable content of the task, or null if run is overridden
+	 */
+	public Task(long delay, TimeUnit unit, boolean repeating, Runnable runnable) {
+		this.delay = unit.toNanos(delay);
 		this.repeating = repeating;
 		this.runnable = runnable;
+		this.customDelay = delayOverridden.get(getClass());
 	}
 
 	public void register(Scheduler scheduler) {
@@ -39,11 +82,20 @@ public class Task implements Runnable {
 		this.scheduler = scheduler;
 
 		if(scheduler != null)
-			setLastWork(scheduler.executionTime());
+			lastWork = scheduler.executionTimeNanos();
 		else
 			setLastWork(-1L);
 	}
 
+	/**
+	 * Detaches this task from its scheduler without cancelling it, used by the
+	 * scheduler once the task is out of its queue
+	 */
+	void unregister() {
+		scheduler = null;
+		setLastWork(-1L);
+	}
+
 	@Override
 	public void run() {
 		if(runnable != null)
@@ -58,18 +110,84 @@ public class Task implements Runnable {
 	 * @return delay of this task, in milliseconds
 	 */
 	public long getDelay() {
-		return this.delay;
+		return TimeUnit.NANOSECONDS.toMillis(delay);
+	}
+
+	/**
+	 * @return delay of this task, in nanoseconds, from {@link #getDelay()} if
+	 * it is redefined
+	 */
+	public long getDelayNanos() {
+		if(customDelay)
+			return TimeUnit.MILLISECONDS.toNanos(getDelay());
+		return delay;
+	}
+
+	void setDelayNanos(long delay) {
+		this.delay = delay;
 	}
 
+	/**
+	 * @return execution time of the last turn of this task, in milliseconds,
+	 * as given by {@link Scheduler#executionTime()}
+	 */
 	public long getLastWork() {
-		return lastWork;
+		return Math.floorDiv(lastWork, 1_000_000L);
 	}
 
 	public void setLastWork(long lastWork) {
-		this.lastWork = lastWork;
+		this.lastWork = TimeUnit.MILLISECONDS.toNanos(lastWork);
+	}
+
+	/**
+	 * @return amount of turns of this task which were skipped because it fell
+	 * behind its scheduler
+	 */
+	public long getOverruns() {
+		return overruns;
+	}
+
+	void addOverruns(long overruns) {
+		this.overruns += overruns;
+	}
+
+	/**
+	 * @return name of this task in the metrics and logs of its scheduler,
+	 * defaulting to the class name of its content
+	 */
+	public String getName() {
+		if(name != null)
+			return name;
+
+		return (runnable != null ? runnable : this).getClass().getName();
+	}
+
+	/**
+	 * Sets the name of this task, tasks sharing a name are profiled together
+	 * by {@link SchedulerMetrics}
+	 *
+	 * @param name name of this task, or null to use its class name
+	 */
+	public void setName(String name) {
+		this.name = name;
 	}
 
 	public boolean isRepeating() {
 		return repeating;
 	}
+
+	public Object getAffinity() {
+		return affinity;
+	}
+
+	/**
+	 * Sets the affinity key of this task. When its scheduler dispatches tasks
+	 * to executors, tasks of the same key always run on the same affinity
+	 * executor, see {@link Scheduler#setExecutor(Executor, Executor...)}
+	 *
+	 * @param affinity affinity key, or null to run on any thread
+	 */
+	public void setAffinity(Object affinity) {
+		this.affinity = affinity;
+	}
 }
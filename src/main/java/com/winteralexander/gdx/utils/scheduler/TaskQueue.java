@@ -0,0 +1,51 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Storage of the pending tasks of a {@link Scheduler}, ordered by deadline.
+ * Implementations don't need to be thread-safe, the scheduler synchronizes
+ * all accesses.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ * @see ArrayTaskQueue
+ * @see HeapTaskQueue
+ */
+public interface TaskQueue {
+	/**
+	 * Adds a task which isn't already in this queue
+	 *
+	 * @param task task to add
+	 * @param deadline execution time at which the task is due
+	 */
+	void add(Task task, long deadline);
+
+	/**
+	 * @param task task to remove
+	 * @return true if the task was in this queue, otherwise false
+	 */
+	boolean remove(Task task);
+
+	boolean contains(Task task);
+
+	/**
+	 * Removes all tasks due at the specified time and adds them to the output
+	 * array
+	 *
+	 * @param time current execution time
+	 * @param out array receiving the due tasks
+	 */
+	void pollDue(long time, Array<Task> out);
+
+	/**
+	 * @return deadline of the next task due, or {@link Long#MAX_VALUE} if this
+	 * queue is empty
+	 */
+	long getNextDeadline();
+
+	int size();
+
+	void clear();
+}
@@ -0,0 +1,50 @@
+package com.winteralexander.gdx.utils.scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.winteralexander.gdx.utils.Validation.ensurePositive;
+
+/**
+ * {@link Clock} which only moves forward when advanced. Used with
+ * {@link Scheduler#simulate(long)} to run scheduled tasks faster than real
+ * time, such as for simulations, bots or replays.
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class VirtualClock implements Clock {
+	private volatile long time;
+
+	public VirtualClock() {
+		this(0L);
+	}
+
+	/**
+	 * @param time initial time in nanoseconds
+	 */
+	public VirtualClock(long time) {
+		this.time = time;
+	}
+
+	@Override
+	public long nanoTime() {
+		return time;
+	}
+
+	/**
+	 * @param nanos time to move forward, in nanoseconds
+	 */
+	public synchronized void advance(long nanos) {
+		ensurePositive(nanos, "nanos");
+		time += nanos;
+	}
+
+	/**
+	 * @param duration time to move forward
+	 * @param unit unit of the duration
+	 */
+	public void advance(long duration, TimeUnit unit) {
+		advance(unit.toNanos(duration));
+	}
+}
@@ -1,12 +1,26 @@
 package com.winteralexander.gdx.utils.test.async;
 
+import com.badlogic.gdx.utils.Array;
 import com.winteralexander.gdx.utils.async.AsyncCall;
+import com.winteralexander.gdx.utils.async.AsyncCallManager;
+import com.winteralexander.gdx.utils.async.AsyncCallMetrics;
+import com.winteralexander.gdx.utils.async.AsyncCallMetrics.CallSiteSnapshot;
+import com.winteralexander.gdx.utils.async.CancellationToken;
+import com.winteralexander.gdx.utils.async.RetryPolicy;
+import com.winteralexander.gdx.utils.async.ThreadPerTaskExecutor;
+import com.winteralexander.gdx.utils.log.NullLogger;
 import com.winteralexander.gdx.utils.property.MutableBox;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static com.winteralexander.gdx.utils.async.AsyncCall.async;
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.fail;
+import static org.junit.Assert.*;
 
 /**
  * Unit test for {@link AsyncCall}
@@ -47,4 +61,330 @@ public class AsyncCallTest {
 				.execute()
 				.join();
 	}
+
+	@Test
+	public void testRetry() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger();
+		MutableBox<Integer> result = new MutableBox<>();
+
+		AsyncCall<Integer> call = async(() -> {
+			if(attempts.incrementAndGet() < 3)
+				throw new IOException("Flaky");
+			return attempts.get();
+		})
+				.exceptRetry(IOException.class)
+				.retryPolicy(RetryPolicy.exponential(5L, 20L))
+				.then(result::set)
+				.execute();
+		call.join();
+
+		assertEquals(3, (int)result.get());
+		assertEquals(2, call.getRetries());
+	}
+
+	@Test
+	public void testMaxRetries() throws InterruptedException {
+		AtomicInteger attempts = new AtomicInteger();
+		MutableBox<Boolean> always = new MutableBox<>(false);
+
+		async(() -> {
+			attempts.incrementAndGet();
+			throw new IOException("Always failing");
+		})
+				.exceptRetry(IOException.class)
+				.retryDelay(1L)
+				.maxRetries(2)
+				.then(v -> fail("Function that always throws should never enter .then()"))
+				.always(() -> always.set(true))
+				.execute()
+				.join();
+
+		assertEquals("Call must run once and be retried twice", 3, attempts.get());
+		assertTrue("always() must run after giving up", always.get());
+	}
+
+	@Test
+	public void testPipeline() throws InterruptedException {
+		MutableBox<String> result = new MutableBox<>();
+
+		async(() -> 20)
+				.map(v -> v + 1)
+				.thenAsync(v -> async(() -> v * 2))
+				.map(String::valueOf)
+				.then(result::set)
+				.execute()
+				.join();
+
+		assertEquals("42", result.get());
+	}
+
+	@Test
+	public void testRejectedRetry() throws InterruptedException {
+		AtomicInteger submissions = new AtomicInteger();
+		AsyncCallManager manager = new AsyncCallManager(new NullLogger(), 50L, task -> {
+			if(submissions.incrementAndGet() > 1)
+				throw new RejectedExecutionException("Shut down");
+			new Thread(task).start();
+		});
+		MutableBox<Exception> failure = new MutableBox<>();
+		MutableBox<Boolean> always = new MutableBox<>(false);
+
+		AsyncCall<Object> call = manager.async(() -> {
+			throw new IOException("Flaky");
+		})
+				.exceptRetry(IOException.class)
+				.except(RejectedExecutionException.class, failure::set)
+				.retryDelay(1L)
+				.always(() -> always.set(true))
+				.execute();
+
+		long deadline = System.currentTimeMillis() + 5_000L;
+		while(!call.isDone() && System.currentTimeMillis() < deadline)
+			Thread.sleep(1L);
+
+		assertTrue("Call rejected on retry must complete", call.isDone());
+		assertTrue(failure.get() instanceof RejectedExecutionException);
+		assertTrue("always() must run after the rejection", always.get());
+	}
+
+	@Test
+	public void testPipelineFailure() throws InterruptedException {
+		MutableBox<Exception> failure = new MutableBox<>();
+
+		async(() -> { throw new IOException("Fail"); })
+				.map(v -> "never")
+				.then(v -> fail("Failure must be propagated to composed call"))
+				.except(IOException.class, failure::set)
+				.execute()
+				.join();
+
+		assertNotNull("Composed call must receive the exception", failure.get());
+	}
+
+	@Test
+	public void testAllOfAnyOf() throws InterruptedException {
+		MutableBox<Array<Integer>> all = new MutableBox<>();
+		MutableBox<Integer> any = new MutableBox<>();
+
+		AsyncCall.allOf(async(() -> 1), async(() -> 2), async(() -> 3))
+				.then(all::set)
+				.execute()
+				.join();
+
+		assertEquals(3, all.get().size);
+		assertEquals(1, (int)all.get().get(0));
+		assertEquals(3, (int)all.get().get(2));
+
+		AsyncCall.anyOf(async(() -> {
+					Thread.sleep(500L);
+					return 1;
+				}), async(() -> 2))
+				.then(any::set)
+				.execute()
+				.join();
+
+		assertEquals(2, (int)any.get());
+	}
+
+	@Test
+	public void testTimeout() throws InterruptedException {
+		MutableBox<Boolean> timedOut = new MutableBox<>(false);
+
+		async((AsyncCall.CheckedVoidFunction<Long>)Thread::sleep, 1_000L)
+				.timeout(20L)
+				.then(v -> fail("Call must time out"))
+				.except(TimeoutException.class, () -> timedOut.set(true))
+				.execute()
+				.join();
+
+		assertTrue("Call must time out", timedOut.get());
+	}
+
+	@Test
+	public void testSingleFlight() throws InterruptedException {
+		AsyncCallManager manager = new AsyncCallManager(new NullLogger(),
+				50L,
+				new ThreadPerTaskExecutor("Test executor"));
+		AtomicInteger executions = new AtomicInteger();
+		AtomicInteger results = new AtomicInteger();
+
+		Array<AsyncCall<Integer>> calls = new Array<>();
+		for(int i = 0; i < 10; i++)
+			calls.add(manager.singleFlight("key", () -> manager.async(() -> {
+				Thread.sleep(50L);
+				return executions.incrementAndGet();
+			})).then(results::addAndGet).execute());
+
+		for(AsyncCall<Integer> call : calls)
+			call.join();
+
+		assertEquals(1, executions.get());
+		assertEquals(10, results.get());
+
+		manager.singleFlight("key", () -> manager.async(executions::incrementAndGet))
+				.execute()
+				.join();
+		assertEquals("Finished flight must not be reused without ttl", 2, executions.get());
+
+		AsyncCall<Integer> done = manager.async(executions::incrementAndGet).execute();
+		done.join();
+		manager.singleFlight("done", () -> done).then(results::addAndGet).execute().join();
+		assertEquals("Done calls must be shared as is", 13, results.get());
+		manager.singleFlight("done", () -> manager.async(executions::incrementAndGet))
+				.execute()
+				.join();
+		assertEquals("Done calls must not stay shared", 4, executions.get());
+	}
+
+	@Test
+	public void testSingleFlightConcurrentFollowers() throws InterruptedException {
+		AsyncCallManager manager = new AsyncCallManager(new NullLogger(),
+				50L,
+				new ThreadPerTaskExecutor("Test executor"));
+
+		for(int round = 0; round < 200; round++) {
+			AtomicInteger executions = new AtomicInteger();
+			AtomicInteger results = new AtomicInteger();
+
+			Array<AsyncCall<Integer>> followers = new Array<>();
+			for(int i = 0; i < 8; i++)
+				followers.add(manager.singleFlight("key", () -> manager.async(() -> {
+					Thread.sleep(1L);
+					return executions.incrementAndGet();
+				})).then(value -> results.incrementAndGet()));
+
+			CountDownLatch start = new CountDownLatch(1);
+			Thread[] threads = new Thread[followers.size];
+			for(int i = 0; i < threads.length; i++) {
+				AsyncCall<Integer> follower = followers.get(i);
+				threads[i] = new Thread(() -> {
+					try {
+						start.await();
+					} catch(InterruptedException ex) {
+						throw new RuntimeException(ex);
+					}
+					follower.execute();
+				});
+				threads[i].start();
+			}
+			start.countDown();
+
+			for(Thread thread : threads)
+				thread.join();
+			for(AsyncCall<Integer> follower : followers)
+				follower.join();
+
+			assertEquals("Shared call must run once", 1, executions.get());
+			assertEquals("Each follower must complete once", 8, results.get());
+		}
+	}
+
+	@Test
+	public void testSingleFlightCache() throws InterruptedException {
+		AsyncCallManager manager = new AsyncCallManager(new NullLogger(),
+				50L,
+				new ThreadPerTaskExecutor("Test executor"));
+		AtomicInteger executions = new AtomicInteger();
+		MutableBox<Integer> result = new MutableBox<>();
+
+		for(int i = 0; i < 3; i++)
+			manager.singleFlight("key", 10_000L, () -> manager.async(executions::incrementAndGet))
+					.then(result::set)
+					.execute()
+					.join();
+
+		assertEquals(1, executions.get());
+		assertEquals(Integer.valueOf(1), result.get());
+
+		manager.invalidate("key");
+		manager.singleFlight("key", 10_000L, () -> manager.async(executions::incrementAndGet))
+				.then(result::set)
+				.execute()
+				.join();
+		assertEquals(Integer.valueOf(2), result.get());
+	}
+
+	@Test
+	public void testMetrics() throws InterruptedException {
+		AsyncCallManager manager = new AsyncCallManager(new NullLogger(),
+				1L,
+				new ThreadPerTaskExecutor("Test executor"));
+		AsyncCallMetrics metrics = new AsyncCallMetrics();
+		manager.setMetrics(metrics);
+
+		for(int i = 0; i < 3; i++)
+			manager.async((AsyncCall.CheckedVoidFunction<Long>)Thread::sleep, 5L)
+					.name("sleep")
+					.execute()
+					.join();
+
+		manager.async(() -> {
+			throw new IOException();
+		}).name("fail").exceptRetry(IOException.class).maxRetries(2).execute().join();
+
+		Array<CallSiteSnapshot> snapshots = metrics.snapshot();
+		assertEquals(2, snapshots.size);
+
+		CallSiteSnapshot sleep = snapshots.get(snapshots.get(0).getName().equals("sleep") ? 0 : 1);
+		CallSiteSnapshot fail = snapshots.get(snapshots.get(0).getName().equals("sleep") ? 1 : 0);
+
+		assertEquals(3, sleep.getSubmitted());
+		assertEquals(3, sleep.getSucceeded());
+		assertEquals(3, sleep.getExecutionTime().getCount());
+		assertTrue(sleep.getExecutionTime().getMean() >= 5_000_000L);
+
+		assertEquals(1, fail.getSubmitted());
+		assertEquals(3, fail.getStarted());
+		assertEquals(2, fail.getRetried());
+		assertEquals(3, fail.getExceptions());
+		assertEquals(1, fail.getFailed());
+	}
+
+	@Test
+	public void testTimeoutInterrupts() throws InterruptedException {
+		MutableBox<Boolean> interrupted = new MutableBox<>(false);
+
+		AsyncCall<Void> call = async(() -> {
+			try {
+				Thread.sleep(5_000L);
+			} catch(InterruptedException ex) {
+				interrupted.set(true);
+				throw ex;
+			}
+		});
+		call.timeout(20L)
+				.except(TimeoutException.class, () -> {})
+				.execute()
+				.join();
+		call.join();
+
+		assertTrue("Body must be interrupted on timeout", interrupted.get());
+	}
+
+	@Test
+	public void testCancellationToken() throws InterruptedException {
+		AtomicInteger iterations = new AtomicInteger();
+		AsyncCall<Integer> call = AsyncCall.cancellable(token -> {
+			while(!token.isCancelled()) {
+				iterations.incrementAndGet();
+				Thread.yield();
+			}
+			token.throwIfCancelled();
+			return 0;
+		});
+
+		MutableBox<Boolean> mappedCalled = new MutableBox<>(false);
+		AsyncCall<Integer> mapped = call.map(i -> i + 1).then(i -> mappedCalled.set(true));
+		mapped.execute();
+
+		while(iterations.get() == 0)
+			Thread.yield();
+		call.cancel();
+		mapped.join();
+
+		assertTrue(call.isDone());
+		assertTrue(call.getToken().isCancelled());
+		assertFalse("Dependent call must be cancelled", mappedCalled.get());
+		assertSame(CancellationToken.NONE, CancellationToken.current());
+	}
 }
@@ -0,0 +1,71 @@
+package com.winteralexander.gdx.utils.test.async;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.winteralexander.gdx.utils.Benchmark;
+import com.winteralexander.gdx.utils.async.ConcurrentIntMap;
+import com.winteralexander.gdx.utils.async.ThreadSafeIntMap;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compares contended lookups of {@link ConcurrentIntMap} with the read-write
+ * locked {@link ThreadSafeIntMap}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+@SuppressWarnings("deprecation")
+public class ConcurrentIntMapBenchmarkTest {
+	private static final int THREADS = 8;
+
+	@Test
+	public void benchmarkContention() throws InterruptedException {
+		ThreadSafeIntMap<Object> locked = new ThreadSafeIntMap<>(new IntMap<>(),
+				new ReentrantReadWriteLock());
+		ConcurrentIntMap<Object> concurrent = new ConcurrentIntMap<>();
+		Object value = new Object();
+
+		Benchmark.start();
+
+		runConcurrently(() -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for(int i = 0; i < 200_000; i++)
+				locked.getOrInit(random.nextInt(4_096), value);
+		});
+
+		Benchmark.step("ThreadSafeIntMap");
+
+		runConcurrently(() -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for(int i = 0; i < 200_000; i++)
+				concurrent.getOrInit(random.nextInt(4_096), value);
+		});
+
+		Benchmark.end("ConcurrentIntMap");
+	}
+
+	private static void runConcurrently(Runnable task) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREADS];
+
+		for(int i = 0; i < THREADS; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					start.await();
+				} catch(InterruptedException ex) {
+					throw new RuntimeException(ex);
+				}
+				task.run();
+			});
+			threads[i].start();
+		}
+
+		start.countDown();
+		for(Thread thread : threads)
+			thread.join();
+	}
+}
@@ -0,0 +1,144 @@
+package com.winteralexander.gdx.utils.test.async;
+
+import com.winteralexander.gdx.utils.async.ConcurrentIntMap;
+import com.winteralexander.gdx.utils.async.ConcurrentLongMap;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link ConcurrentIntMap} and {@link ConcurrentLongMap}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class ConcurrentIntMapTest {
+	private static final int THREADS = 8;
+
+	@Test
+	public void testGrow() {
+		ConcurrentIntMap<Integer> map = new ConcurrentIntMap<>(4, 4);
+		for(int i = -5_000; i < 5_000; i++)
+			assertEquals(Integer.valueOf(i * 2), map.getOrInit(i, i * 2));
+
+		assertEquals(10_000, map.size());
+		for(int i = -5_000; i < 5_000; i++)
+			assertEquals(Integer.valueOf(i * 2), map.getOrNull(i));
+
+		assertNull(map.getOrNull(5_000));
+		assertEquals(Integer.valueOf(0), map.getOrInit(0, 100));
+
+		map.clear();
+		assertEquals(0, map.size());
+		assertFalse(map.containsKey(0));
+	}
+
+	@Test
+	public void testLongKeys() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+		map.getOrInit(1L << 40, "high");
+		map.getOrInit(1L, "low");
+
+		assertEquals("high", map.getOrNull(1L << 40));
+		assertEquals("low", map.getOrNull(1L));
+		assertNull(map.getOrNull((1L << 40) | 1L));
+	}
+
+	@Test
+	public void testInitOncePerKey() throws InterruptedException {
+		ConcurrentIntMap<Object> map = new ConcurrentIntMap<>();
+		AtomicInteger calls = new AtomicInteger();
+
+		runConcurrently(thread -> () -> {
+			for(int i = 0; i < 10_000; i++)
+				map.computeIfAbsent(i % 1_000, key -> {
+					calls.incrementAndGet();
+					return new Object();
+				});
+		});
+
+		assertEquals(1_000, calls.get());
+		assertEquals(1_000, map.size());
+	}
+
+	@Test
+	public void testContention() throws InterruptedException {
+		ConcurrentIntMap<Integer> map = new ConcurrentIntMap<>(4, 4);
+		AtomicInteger mismatches = new AtomicInteger();
+
+		runConcurrently(thread -> () -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for(int i = 0; i < 50_000; i++) {
+				int key = random.nextInt(4_096);
+				if(map.getOrInit(key, key) != key)
+					mismatches.incrementAndGet();
+			}
+		});
+
+		assertEquals("Values must survive concurrent growth", 0, mismatches.get());
+		assertTrue(map.size() <= 4_096);
+		for(int key = 0; key < 4_096; key++) {
+			Integer value = map.getOrNull(key);
+			assertTrue(value == null || value == key);
+		}
+	}
+
+	@Test
+	public void testLongContention() throws InterruptedException {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(4, 4);
+		AtomicInteger mismatches = new AtomicInteger();
+		AtomicInteger calls = new AtomicInteger();
+
+		runConcurrently(thread -> () -> {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			for(int i = 0; i < 50_000; i++) {
+				// keys differing only in their high bits must not collide
+				long key = (long)random.nextInt(64) << 40 | random.nextInt(64);
+				Long value = map.computeIfAbsent(key, k -> {
+					calls.incrementAndGet();
+					return k;
+				});
+				if(value != key)
+					mismatches.incrementAndGet();
+			}
+		});
+
+		assertEquals("Values must survive concurrent growth", 0, mismatches.get());
+		assertEquals("Each key must be initialized once", map.size(), calls.get());
+		for(long high = 0; high < 64; high++) {
+			for(long low = 0; low < 64; low++) {
+				long key = high << 40 | low;
+				Long value = map.getOrNull(key);
+				assertTrue(value == null || value == key);
+			}
+		}
+	}
+
+	private static void runConcurrently(IntFunction<Runnable> task) throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREADS];
+
+		for(int i = 0; i < THREADS; i++) {
+			Runnable runnable = task.apply(i);
+			threads[i] = new Thread(() -> {
+				try {
+					start.await();
+				} catch(InterruptedException ex) {
+					throw new RuntimeException(ex);
+				}
+				runnable.run();
+			});
+			threads[i].start();
+		}
+
+		start.countDown();
+		for(Thread thread : threads)
+			thread.join();
+	}
+}
@@ -0,0 +1,104 @@
+package com.winteralexander.gdx.utils.test.async;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.utils.async.FrameDeliveryQueue;
+import com.winteralexander.gdx.utils.async.GdxCallback;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link FrameDeliveryQueue}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FrameDeliveryQueueTest {
+	@Test
+	public void testOrder() {
+		Array<Runnable> frame = new Array<>();
+		FrameDeliveryQueue queue = new FrameDeliveryQueue(1_000f, 16, frame::add);
+		Array<Integer> received = new Array<>();
+		GdxCallback<Integer> callback = received::add;
+
+		for(int i = 0; i < 100; i++)
+			queue.post(callback, i);
+		assertEquals("A single drain must be posted for all callbacks", 1, frame.size);
+
+		runFrame(frame);
+		assertEquals(100, received.size);
+		for(int i = 0; i < 100; i++)
+			assertEquals("Callbacks must be delivered in order",
+					Integer.valueOf(i),
+					received.get(i));
+		assertEquals(0, queue.getSize());
+	}
+
+	@Test
+	public void testBudgetCarryOver() {
+		Array<Runnable> frame = new Array<>();
+		FrameDeliveryQueue queue = new FrameDeliveryQueue(0f, 16, frame::add);
+		Array<Integer> received = new Array<>();
+		GdxCallback<Integer> callback = received::add;
+
+		for(int i = 0; i < 3; i++)
+			queue.post(callback, i);
+
+		runFrame(frame);
+		assertEquals("At least one callback must be delivered per frame", 1, received.size);
+		assertEquals(2, queue.getSize());
+		assertEquals("Remaining callbacks must be carried over", 1, frame.size);
+
+		queue.post(callback, 3);
+		assertEquals("Drain must not be posted twice", 1, frame.size);
+
+		for(int i = 0; i < 3; i++)
+			runFrame(frame);
+		assertEquals(4, received.size);
+		for(int i = 0; i < 4; i++)
+			assertEquals(Integer.valueOf(i), received.get(i));
+
+		runFrame(frame);
+		assertEquals("Drain must stop once the queue is empty", 0, frame.size);
+
+		queue.post(callback, 4);
+		assertEquals(1, frame.size);
+		runFrame(frame);
+		assertEquals(5, received.size);
+	}
+
+	@Test
+	public void testBudget() {
+		Array<Runnable> frame = new Array<>();
+		FrameDeliveryQueue queue = new FrameDeliveryQueue(20f, 16, frame::add);
+		Array<Integer> received = new Array<>();
+		GdxCallback<Integer> slowCallback = value -> {
+			received.add(value);
+			try {
+				Thread.sleep(5L);
+			} catch(InterruptedException ex) {
+				throw new RuntimeException(ex);
+			}
+		};
+
+		for(int i = 0; i < 100; i++)
+			queue.post(slowCallback, i);
+
+		runFrame(frame);
+		assertTrue("Frame must stop once its budget is spent",
+				received.size >= 1 && received.size < 100);
+		assertEquals(100 - received.size, queue.getSize());
+	}
+
+	/**
+	 * Runs the runnables posted for the current frame, runnables they post are
+	 * run on the next frame
+	 */
+	private static void runFrame(Array<Runnable> frame) {
+		Array<Runnable> current = new Array<>(frame);
+		frame.clear();
+		for(Runnable runnable : current)
+			runnable.run();
+	}
+}
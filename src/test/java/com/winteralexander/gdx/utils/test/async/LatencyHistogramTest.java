@@ -0,0 +1,47 @@
+package com.winteralexander.gdx.utils.test.async;
+
+import com.winteralexander.gdx.utils.async.LatencyHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link LatencyHistogram}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class LatencyHistogramTest {
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for(int i = 1; i <= 1_000; i++)
+			histogram.record(i * 1_000L);
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+		assertEquals(1_000L, snapshot.getCount());
+		assertEquals(500_500L, snapshot.getMean());
+		assertEquals(1_000_000L, snapshot.getMax());
+
+		assertEquals(500_000f, snapshot.getPercentile(0.5f), 500_000f * 0.25f);
+		assertEquals(990_000f, snapshot.getPercentile(0.99f), 990_000f * 0.25f);
+		assertEquals(1_000_000L, snapshot.getPercentile(1f));
+		assertTrue(snapshot.getPercentile(0f) <= 1_250L);
+	}
+
+	@Test
+	public void testEmptyAndReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0L, histogram.snapshot().getPercentile(0.5f));
+
+		histogram.record(-5L);
+		histogram.record(3L);
+		assertEquals(2L, histogram.snapshot().getCount());
+		assertEquals(3L, histogram.snapshot().getMax());
+
+		histogram.reset();
+		assertEquals(0L, histogram.snapshot().getCount());
+		assertEquals(0L, histogram.snapshot().getMax());
+	}
+}
@@ -0,0 +1,172 @@
+package com.winteralexander.gdx.utils.test.async;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.utils.async.AsyncCall.Priority;
+import com.winteralexander.gdx.utils.async.PriorityLaneExecutor;
+import com.winteralexander.gdx.utils.async.ThreadPerTaskExecutor;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor.SaturationPolicy;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link PriorityLaneExecutor}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class PriorityLaneExecutorTest {
+	@Test
+	public void testWeightedFairness() throws InterruptedException {
+		WorkerPoolExecutor pool = new WorkerPoolExecutor("Test pool",
+				1,
+				64,
+				SaturationPolicy.BLOCK);
+		PriorityLaneExecutor executor = new PriorityLaneExecutor(pool, 1);
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		executor.execute(() -> {
+			try {
+				blocker.await();
+			} catch(InterruptedException ex) {
+				throw new RuntimeException(ex);
+			}
+		});
+
+		Array<Priority> order = new Array<>();
+		CountDownLatch done = new CountDownLatch(20);
+		for(int i = 0; i < 10; i++) {
+			executor.execute(() -> {
+				synchronized(order) {
+					order.add(Priority.BACKGROUND);
+				}
+				done.countDown();
+			}, Priority.BACKGROUND);
+			executor.execute(() -> {
+				synchronized(order) {
+					order.add(Priority.INTERACTIVE);
+				}
+				done.countDown();
+			}, Priority.INTERACTIVE);
+		}
+
+		assertEquals(10, executor.getQueueSize(Priority.BACKGROUND));
+		blocker.countDown();
+		assertTrue(done.await(5L, TimeUnit.SECONDS));
+
+		int interactiveFirst = 0;
+		for(int i = 0; i < 10; i++)
+			if(order.get(i) == Priority.INTERACTIVE)
+				interactiveFirst++;
+
+		assertTrue("Interactive tasks must be served first", interactiveFirst >= 9);
+		pool.shutdown();
+	}
+
+	@Test
+	public void testStarvation() throws InterruptedException {
+		WorkerPoolExecutor pool = new WorkerPoolExecutor("Test pool",
+				1,
+				64,
+				SaturationPolicy.BLOCK);
+		PriorityLaneExecutor executor = new PriorityLaneExecutor(pool, 1);
+		executor.setStarvationThreshold(0L);
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		executor.execute(() -> {
+			try {
+				blocker.await();
+			} catch(InterruptedException ex) {
+				throw new RuntimeException(ex);
+			}
+		});
+
+		Array<Priority> order = new Array<>();
+		CountDownLatch done = new CountDownLatch(2);
+		executor.execute(() -> {
+			order.add(Priority.BACKGROUND);
+			done.countDown();
+		}, Priority.BACKGROUND);
+		Thread.sleep(5L);
+		executor.execute(() -> {
+			order.add(Priority.INTERACTIVE);
+			done.countDown();
+		}, Priority.INTERACTIVE);
+
+		blocker.countDown();
+		assertTrue(done.await(5L, TimeUnit.SECONDS));
+		assertEquals("Oldest waiting task must go first", Priority.BACKGROUND, order.first());
+		pool.shutdown();
+	}
+
+	@Test
+	public void testLaneLimit() throws InterruptedException {
+		PriorityLaneExecutor executor = new PriorityLaneExecutor(
+				new ThreadPerTaskExecutor("Test executor"),
+				Integer.MAX_VALUE);
+		executor.setLimit(Priority.BACKGROUND, 2);
+
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(10);
+		for(int i = 0; i < 10; i++)
+			executor.execute(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(5L);
+				} catch(InterruptedException ex) {
+					throw new RuntimeException(ex);
+				}
+				running.decrementAndGet();
+				done.countDown();
+			}, Priority.BACKGROUND);
+
+		assertTrue(done.await(5L, TimeUnit.SECONDS));
+		assertEquals(2, maxRunning.get());
+	}
+
+	@Test
+	public void testCallerRunsDoesNotRecurse() {
+		PriorityLaneExecutor executor = new PriorityLaneExecutor(Runnable::run, 1);
+		AtomicInteger runs = new AtomicInteger();
+
+		Runnable[] chain = new Runnable[1];
+		chain[0] = () -> {
+			if(runs.incrementAndGet() < 100_000)
+				executor.execute(chain[0]);
+		};
+		executor.execute(chain[0]);
+
+		assertEquals(100_000, runs.get());
+	}
+
+	@Test
+	public void testRejectedTaskIsDropped() {
+		AtomicInteger attempts = new AtomicInteger();
+		PriorityLaneExecutor executor = new PriorityLaneExecutor(task -> {
+			if(attempts.incrementAndGet() == 1)
+				throw new RejectedExecutionException();
+			task.run();
+		}, 1);
+		AtomicInteger rejectedRuns = new AtomicInteger();
+		AtomicInteger runs = new AtomicInteger();
+
+		try {
+			executor.execute(rejectedRuns::incrementAndGet);
+			fail("Rejection must be thrown to the caller");
+		} catch(RejectedExecutionException expected) {}
+		assertEquals("Rejected task must be dropped", 0, executor.getQueueSize(Priority.NORMAL));
+		assertEquals(0, executor.getRunningCount(Priority.NORMAL));
+
+		executor.execute(runs::incrementAndGet);
+		assertEquals(1, runs.get());
+		assertEquals("Rejected task must not run later", 0, rejectedRuns.get());
+		assertEquals(0, executor.getRunningCount(Priority.NORMAL));
+	}
+}
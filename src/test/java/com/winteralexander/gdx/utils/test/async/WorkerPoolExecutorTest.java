@@ -0,0 +1,135 @@
+package com.winteralexander.gdx.utils.test.async;
+
+import com.winteralexander.gdx.utils.async.AsyncCallManager;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor.SaturationPolicy;
+import com.winteralexander.gdx.utils.log.NullLogger;
+import com.winteralexander.gdx.utils.property.MutableBox;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link WorkerPoolExecutor}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class WorkerPoolExecutorTest {
+	@Test
+	public void testRunsAllTasks() throws InterruptedException {
+		WorkerPoolExecutor executor = new WorkerPoolExecutor("Test pool",
+				4,
+				16,
+				SaturationPolicy.BLOCK);
+		AsyncCallManager manager = new AsyncCallManager(new NullLogger(), 50L, executor);
+
+		AtomicInteger counter = new AtomicInteger();
+		CountDownLatch latch = new CountDownLatch(100);
+		for(int i = 0; i < 100; i++)
+			manager.async(counter::incrementAndGet).always(latch::countDown).execute();
+
+		assertTrue("Tasks did not complete in time", latch.await(5L, TimeUnit.SECONDS));
+		assertEquals(100, counter.get());
+		assertEquals("Fixed pool must not grow", 4, executor.getWorkerCount());
+		executor.shutdown();
+	}
+
+	@Test
+	public void testCallerRuns() throws InterruptedException {
+		WorkerPoolExecutor executor = new WorkerPoolExecutor("Test pool",
+				1,
+				1,
+				SaturationPolicy.CALLER_RUNS);
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(release));
+		while(executor.getQueueSize() > 0)
+			Thread.yield();
+		executor.execute(() -> awaitQuietly(release));
+
+		MutableBox<Thread> runner = new MutableBox<>();
+		executor.execute(() -> runner.set(Thread.currentThread()));
+		release.countDown();
+
+		assertSame("Saturated task must run on the caller thread",
+				Thread.currentThread(),
+				runner.get());
+		executor.shutdown();
+	}
+
+	@Test
+	public void testRejectCallback() {
+		AtomicInteger rejected = new AtomicInteger();
+		WorkerPoolExecutor executor = new WorkerPoolExecutor("Test pool",
+				0,
+				1,
+				1_000L,
+				1,
+				SaturationPolicy.REJECT,
+				task -> rejected.incrementAndGet());
+		CountDownLatch release = new CountDownLatch(1);
+		executor.execute(() -> awaitQuietly(release));
+		while(executor.getQueueSize() > 0)
+			Thread.yield();
+		executor.execute(() -> awaitQuietly(release));
+		executor.execute(() -> {});
+		release.countDown();
+
+		assertEquals("Third task must be rejected", 1, rejected.get());
+		executor.shutdown();
+	}
+
+	@Test
+	public void testRetiringWorkers() throws InterruptedException {
+		WorkerPoolExecutor executor = new WorkerPoolExecutor("Test pool",
+				0,
+				1,
+				1L,
+				16,
+				SaturationPolicy.BLOCK,
+				null);
+
+		CountDownLatch latch = new CountDownLatch(200);
+		for(int i = 0; i < 200; i++) {
+			executor.execute(latch::countDown);
+			Thread.sleep(i % 3);
+		}
+
+		assertTrue("Tasks submitted while workers retire must run",
+				latch.await(5L, TimeUnit.SECONDS));
+		executor.shutdown();
+	}
+
+	@Test
+	public void testShutdownWakesIdleWorkers() throws InterruptedException {
+		WorkerPoolExecutor executor = new WorkerPoolExecutor("Test pool",
+				2,
+				4,
+				SaturationPolicy.BLOCK);
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(latch::countDown);
+		assertTrue(latch.await(5L, TimeUnit.SECONDS));
+
+		executor.shutdown();
+		long deadline = System.currentTimeMillis() + 5_000L;
+		while(executor.getWorkerCount() > 0 && System.currentTimeMillis() < deadline)
+			Thread.sleep(1L);
+
+		assertEquals("Idle workers must stop without waiting for their keepAlive",
+				0,
+				executor.getWorkerCount());
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch(InterruptedException ex) {
+			throw new RuntimeException(ex);
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.winteralexander.gdx.utils.test.error;
+
+import com.winteralexander.gdx.utils.error.StackTracker;
+import com.winteralexander.gdx.utils.error.StackTracker.CaptureMode;
+import com.winteralexander.gdx.utils.error.TrackedStackTrace;
+import com.winteralexander.gdx.utils.error.Tracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link StackTracker}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class StackTrackerTest {
+	private CaptureMode previousMode;
+
+	@Before
+	public void saveCaptureMode() {
+		previousMode = StackTracker.getCaptureMode();
+	}
+
+	@After
+	public void restoreCaptureMode() {
+		StackTracker.setCaptureMode(previousMode);
+	}
+
+	@Test
+	public void testAlwaysCapturesStack() {
+		Tracker tracker = cut(CaptureMode.ALWAYS, "Test");
+
+		assertNotNull(tracker.get());
+		assertTrue("Stack must be captured", tracker.get().getStackTrace().length > 0);
+	}
+
+	@Test
+	public void testLazyKeepsTrackerChain() {
+		Tracker outer = cut(CaptureMode.LAZY, "Outer");
+		StackTracker.enter(outer);
+		Tracker inner = StackTracker.cut("Inner");
+		StackTracker.exit(outer);
+
+		StackTracker.enter(inner);
+		RuntimeException ex = new RuntimeException("Fail");
+		StackTracker.appendFullStack(ex);
+		StackTracker.exit(inner);
+
+		TrackedStackTrace trace = (TrackedStackTrace)ex.getCause();
+		assertEquals("Exception in Inner", trace.getMessage());
+		assertEquals("Lazy trackers must not capture the stack",
+				0,
+				trace.getStackTrace().length);
+		assertEquals("Exception in Outer", trace.getCause().getMessage());
+	}
+
+	@Test
+	public void testOffAppendsNothing() {
+		Tracker tracker = cut(CaptureMode.OFF, "Test");
+
+		StackTracker.enter(tracker);
+		RuntimeException ex = new RuntimeException("Fail");
+		StackTracker.appendFullStack(ex);
+		StackTracker.exit(tracker);
+
+		assertNull(ex.getCause());
+	}
+
+	private static Tracker cut(CaptureMode mode, String name) {
+		StackTracker.setCaptureMode(mode);
+		return StackTracker.cut(name);
+	}
+}
@@ -0,0 +1,122 @@
+package com.winteralexander.gdx.utils.test.event;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor.SaturationPolicy;
+import com.winteralexander.gdx.utils.event.AsyncListenableImpl;
+import com.winteralexander.gdx.utils.event.AsyncListenableImpl.OverflowPolicy;
+import com.winteralexander.gdx.utils.event.AsyncListenableImpl.Subscription;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link AsyncListenableImpl}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncListenableTest {
+	@Test
+	public void testOrderPerListener() throws InterruptedException {
+		WorkerPoolExecutor executor = new WorkerPoolExecutor("listeners",
+				4,
+				1024,
+				SaturationPolicy.BLOCK);
+		AsyncListenableImpl<IntConsumer> listenable = new AsyncListenableImpl<>(executor,
+				10_000,
+				OverflowPolicy.REJECT);
+
+		int listenerCount = 8, eventCount = 1000;
+		CountDownLatch done = new CountDownLatch(listenerCount);
+		IntArray[] received = new IntArray[listenerCount];
+		for(int i = 0; i < listenerCount; i++) {
+			IntArray array = received[i] = new IntArray();
+			listenable.addListener(value -> {
+				array.add(value);
+				if(array.size == eventCount)
+					done.countDown();
+			});
+		}
+
+		for(int i = 0; i < eventCount; i++) {
+			int value = i;
+			listenable.trigger(listener -> listener.accept(value));
+		}
+
+		assertTrue(done.await(10L, TimeUnit.SECONDS));
+		for(IntArray array : received)
+			for(int i = 0; i < eventCount; i++)
+				assertEquals("Events must be received in order", i, array.get(i));
+		executor.shutdown();
+	}
+
+	@Test
+	public void testOverflow() {
+		Array<Runnable> pending = new Array<>();
+		AsyncListenableImpl<IntConsumer> listenable = new AsyncListenableImpl<>(pending::add,
+				2,
+				OverflowPolicy.DROP_NEWEST);
+
+		IntArray newest = new IntArray(), oldest = new IntArray();
+		listenable.addListener(newest::add);
+		Subscription<IntConsumer> oldestSubscription = listenable.subscribe(oldest::add,
+				pending::add,
+				2,
+				OverflowPolicy.DROP_OLDEST);
+
+		for(int i = 0; i < 5; i++) {
+			int value = i;
+			listenable.trigger(listener -> listener.accept(value));
+		}
+
+		assertEquals("Listeners must be drained by a single task each", 2, pending.size);
+		assertEquals(2, oldestSubscription.getQueueSize());
+		assertEquals(3L, oldestSubscription.getDroppedCount());
+
+		for(Runnable task : pending)
+			task.run();
+
+		assertEquals(2, newest.size);
+		assertEquals(0, newest.get(0));
+		assertEquals(1, newest.get(1));
+		assertEquals(2, oldest.size);
+		assertEquals(3, oldest.get(0));
+		assertEquals(4, oldest.get(1));
+	}
+
+	@Test
+	public void testRejectAndRemove() {
+		Array<Runnable> pending = new Array<>();
+		AsyncListenableImpl<IntConsumer> listenable = new AsyncListenableImpl<>(pending::add,
+				1,
+				OverflowPolicy.REJECT);
+
+		IntArray rejecting = new IntArray(), removed = new IntArray();
+		IntConsumer removedListener = removed::add;
+		listenable.addListener(rejecting::add);
+		listenable.addListener(removedListener);
+
+		listenable.trigger(listener -> listener.accept(1));
+		try {
+			listenable.trigger(listener -> listener.accept(2));
+			fail("Full queue must reject the event");
+		} catch(RejectedExecutionException ignored) {}
+
+		listenable.removeListener(removedListener);
+		assertFalse(listenable.hasListener(removedListener));
+
+		for(Runnable task : pending)
+			task.run();
+
+		assertEquals(1, rejecting.size);
+		assertEquals("Events of removed listeners must be discarded", 0, removed.size);
+	}
+}
@@ -0,0 +1,99 @@
+package com.winteralexander.gdx.utils.test.event;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.winteralexander.gdx.utils.event.ConcurrentListenableImpl;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link ConcurrentListenableImpl}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class ConcurrentListenableTest {
+	@Test
+	public void testOrder() {
+		ConcurrentListenableImpl<Runnable> listenable = new ConcurrentListenableImpl<>();
+		IntArray array = new IntArray();
+
+		listenable.addListener(() -> array.add(2));
+		listenable.addListener(() -> array.add(3));
+		listenable.addPriorityListener(() -> array.add(1));
+
+		listenable.trigger(Runnable::run);
+		assertEquals(3, array.size);
+		assertEquals("Incorrect listener execution order", 1, array.get(0));
+		assertEquals("Incorrect listener execution order", 2, array.get(1));
+		assertEquals("Incorrect listener execution order", 3, array.get(2));
+	}
+
+	@Test
+	public void testRemoveWhileInvoking() {
+		ConcurrentListenableImpl<Runnable> listenable = new ConcurrentListenableImpl<>();
+		AtomicInteger value = new AtomicInteger();
+
+		Runnable secondListener = () -> value.set(10);
+		listenable.addListener(() -> {
+			value.set(1);
+			listenable.removeListener(secondListener);
+		});
+		listenable.addListener(secondListener);
+
+		listenable.trigger(Runnable::run);
+		assertEquals("Listeners removed during a trigger must still receive it",
+				10,
+				value.get());
+		assertFalse(listenable.hasListener(secondListener));
+
+		listenable.trigger(Runnable::run);
+		assertEquals(1, value.get());
+	}
+
+	@Test
+	public void testConcurrentTrigger() throws InterruptedException {
+		ConcurrentListenableImpl<Runnable> listenable = new ConcurrentListenableImpl<>();
+		AtomicInteger permanentCalls = new AtomicInteger();
+		AtomicBoolean stop = new AtomicBoolean(false);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		listenable.addListener(permanentCalls::incrementAndGet);
+
+		Thread[] triggers = new Thread[4];
+		for(int i = 0; i < triggers.length; i++) {
+			triggers[i] = new Thread(() -> {
+				try {
+					for(int j = 0; j < 10_000; j++)
+						listenable.trigger(Runnable::run);
+				} catch(Throwable ex) {
+					failure.set(ex);
+				}
+			});
+			triggers[i].start();
+		}
+
+		Thread mutator = new Thread(() -> {
+			while(!stop.get()) {
+				Runnable temporary = () -> {};
+				listenable.addListener(temporary);
+				listenable.removeListener(temporary);
+			}
+		});
+		mutator.start();
+
+		for(Thread thread : triggers)
+			thread.join();
+		stop.set(true);
+		mutator.join();
+
+		assertNull(failure.get());
+		assertEquals(triggers.length * 10_000, permanentCalls.get());
+		assertEquals(1, listenable.getListenerCount());
+	}
+}
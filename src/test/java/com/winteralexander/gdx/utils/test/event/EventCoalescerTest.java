@@ -0,0 +1,117 @@
+package com.winteralexander.gdx.utils.test.event;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.winteralexander.gdx.utils.EnumConstantCache;
+import com.winteralexander.gdx.utils.event.EventCoalescer;
+import com.winteralexander.gdx.utils.event.EventCoalescer.EventKind;
+import com.winteralexander.gdx.utils.event.ListenableImpl;
+import com.winteralexander.gdx.utils.event.PriorityListenableImpl;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link EventCoalescer}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class EventCoalescerTest {
+	private interface HealthListener {
+		void damaged(int damage);
+
+		void healed(int health);
+	}
+
+	private static final EventKind<HealthListener, Integer> DAMAGED = new EventKind<>(Integer::sum,
+			(listener, damage) -> listener.damaged(damage));
+
+	private static final EventKind<HealthListener, Integer> HEALED = new EventKind<>(
+			(listener, health) -> listener.healed(health));
+
+	private enum Priority {
+		HIGH,
+		LOW;
+		public static final Priority[] values = EnumConstantCache.store(values());
+	}
+
+	@Test
+	public void testCoalescing() {
+		ListenableImpl<HealthListener> listenable = new ListenableImpl<>();
+		EventCoalescer<HealthListener> coalescer = new EventCoalescer<>(listenable);
+		IntArray damages = new IntArray(), heals = new IntArray();
+
+		listenable.addListener(new HealthListener() {
+			@Override
+			public void damaged(int damage) {
+				damages.add(damage);
+			}
+
+			@Override
+			public void healed(int health) {
+				heals.add(health);
+			}
+		});
+
+		Object first = new Object(), second = new Object();
+		for(int i = 1; i <= 10; i++) {
+			coalescer.post(first, DAMAGED, i);
+			coalescer.post(first, HEALED, i * 10);
+		}
+		coalescer.post(second, DAMAGED, 7);
+
+		assertEquals(3, coalescer.getPendingCount());
+		assertEquals(0, damages.size);
+
+		coalescer.flush();
+		assertEquals(0, coalescer.getPendingCount());
+		assertEquals(2, damages.size);
+		assertEquals("Damages must be summed", 55, damages.get(0));
+		assertEquals(7, damages.get(1));
+		assertEquals(1, heals.size);
+		assertEquals("Only the latest health must be kept", 100, heals.get(0));
+
+		coalescer.post(first, DAMAGED, 3);
+		coalescer.flush();
+		coalescer.flush();
+		assertEquals(3, damages.size);
+		assertEquals(3, damages.get(2));
+	}
+
+	@Test
+	public void testPriorityListenable() {
+		PriorityListenableImpl<HealthListener, Priority> listenable =
+				new PriorityListenableImpl<>(Priority.LOW);
+		EventCoalescer<HealthListener> coalescer = new EventCoalescer<>(listenable);
+		IntArray order = new IntArray();
+
+		listenable.addListener(new HealthListener() {
+			@Override
+			public void damaged(int damage) {
+				order.add(2);
+			}
+
+			@Override
+			public void healed(int health) {}
+		});
+		listenable.addListener(new HealthListener() {
+			@Override
+			public void damaged(int damage) {
+				order.add(1);
+			}
+
+			@Override
+			public void healed(int health) {}
+		}, Priority.HIGH);
+
+		Object source = new Object();
+		coalescer.post(source, DAMAGED, 1);
+		coalescer.post(source, DAMAGED, 1);
+		coalescer.flush();
+
+		assertEquals(2, order.size);
+		assertEquals(1, order.get(0));
+		assertEquals(2, order.get(1));
+	}
+}
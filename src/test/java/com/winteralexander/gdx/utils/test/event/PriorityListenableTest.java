@@ -75,4 +75,73 @@ public class PriorityListenableTest {
 		assertEquals("Incorrect listener execution order", 3, array.get(0));
 		assertEquals("Incorrect listener execution order", 1, array.get(1));
 	}
+
+	@Test
+	public void testRemoveKeepsOrder() {
+		PriorityListenableImpl<BooleanSupplier, Priority>
+				listenable = new PriorityListenableImpl<>(Priority.MED);
+		IntArray array = new IntArray();
+		BooleanSupplier[] listeners = new BooleanSupplier[1000];
+		for(int i = 0; i < listeners.length; i++) {
+			int value = i;
+			listeners[i] = () -> {
+				array.add(value);
+				return false;
+			};
+			listenable.addListener(listeners[i], i % 2 == 0 ? Priority.LOW : Priority.HIGH);
+		}
+
+		for(int i = 0; i < listeners.length; i += 3)
+			listenable.removeListener(listeners[i]);
+
+		for(int i = 0; i < listeners.length; i++)
+			assertEquals(i % 3 != 0, listenable.hasListener(listeners[i]));
+
+		listenable.trigger(BooleanSupplier::getAsBoolean);
+		int previous = -1;
+		boolean low = false;
+		for(int i = 0; i < array.size; i++) {
+			int value = array.get(i);
+			assertTrue("Removed listener must not be called", value % 3 != 0);
+			if(value % 2 == 0 && !low) {
+				low = true;
+				previous = -1;
+			}
+			assertEquals("High priority listeners must run first", low, value % 2 == 0);
+			assertTrue("Incorrect listener execution order", value > previous);
+			previous = value;
+		}
+		assertEquals(666, array.size);
+	}
+
+	@Test
+	public void testChangesWhileTriggering() {
+		PriorityListenableImpl<BooleanSupplier, Priority>
+				listenable = new PriorityListenableImpl<>(Priority.MED);
+		IntArray array = new IntArray();
+
+		BooleanSupplier added = () -> {
+			array.add(2);
+			return false;
+		};
+		BooleanSupplier removed = () -> {
+			array.add(3);
+			return false;
+		};
+		listenable.addListener(() -> {
+			array.add(1);
+			listenable.removeListener(removed);
+			listenable.addListener(added, Priority.HIGH);
+			assertTrue(listenable.hasListener(removed));
+			return false;
+		}, Priority.HIGH);
+		listenable.addListener(removed, Priority.LOW);
+
+		listenable.trigger(BooleanSupplier::getAsBoolean);
+		assertEquals("Changes must be delayed until the end of the trigger", 2, array.size);
+		assertEquals(1, array.get(0));
+		assertEquals(3, array.get(1));
+		assertFalse(listenable.hasListener(removed));
+		assertTrue(listenable.hasListener(added));
+	}
 }
@@ -0,0 +1,75 @@
+package com.winteralexander.gdx.utils.test.function;
+
+import com.winteralexander.gdx.utils.function.TypeConsumerMap;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link TypeConsumerMap}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class TypeConsumerMapTest {
+	private interface Message {}
+
+	private interface Reliable extends Message {}
+
+	private static class Base implements Message {}
+
+	private static class Move extends Base {}
+
+	private static class Chat extends Base implements Reliable {}
+
+	private static class FastMove extends Move {}
+
+	@Test
+	public void testHierarchy() {
+		List<String> received = new ArrayList<>();
+		TypeConsumerMap<Object> map = new TypeConsumerMap<>();
+		map.setDefault(o -> received.add("default"));
+		map.set(Base.class, m -> received.add("base"));
+		map.set(Move.class, m -> received.add("move"));
+		map.set(Reliable.class, m -> received.add("reliable"));
+
+		map.accept(new Move());
+		map.accept(new FastMove());
+		map.accept(new Chat());
+		map.accept(new Base());
+		map.accept(new Message() {});
+		map.accept(null);
+
+		assertEquals("move", received.get(0));
+		assertEquals("Subclasses must use the consumer of their superclass",
+				"move",
+				received.get(1));
+		assertEquals("Interfaces of a class must be searched before its superclass",
+				"reliable",
+				received.get(2));
+		assertEquals("base", received.get(3));
+		assertEquals("default", received.get(4));
+		assertEquals("default", received.get(5));
+	}
+
+	@Test
+	public void testChangeAfterCaching() {
+		List<String> received = new ArrayList<>();
+		TypeConsumerMap<Number> map = new TypeConsumerMap<>();
+		map.set(Number.class, n -> received.add("number"));
+
+		map.accept(1);
+		map.set(Integer.class, i -> received.add("integer"));
+		map.accept(1);
+		map.remove(Integer.class);
+		map.accept(1);
+
+		assertEquals("number", received.get(0));
+		assertEquals("Cached resolution must be updated", "integer", received.get(1));
+		assertEquals("number", received.get(2));
+	}
+}
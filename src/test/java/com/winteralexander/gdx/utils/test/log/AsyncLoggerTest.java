@@ -0,0 +1,92 @@
+package com.winteralexander.gdx.utils.test.log;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.utils.log.AbstractLogger;
+import com.winteralexander.gdx.utils.log.AsyncLogger;
+import com.winteralexander.gdx.utils.log.AsyncLogger.OverflowPolicy;
+import com.winteralexander.gdx.utils.log.CacheLogger;
+import com.winteralexander.gdx.utils.log.Logger.LogLevel;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link AsyncLogger}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class AsyncLoggerTest {
+	@Test
+	public void testOrderPerThread() throws InterruptedException {
+		CacheLogger target = new CacheLogger(LogLevel.INFO);
+		AsyncLogger logger = new AsyncLogger(target, 64, OverflowPolicy.BLOCK);
+
+		Thread[] threads = new Thread[4];
+		for(int i = 0; i < threads.length; i++) {
+			int id = i;
+			threads[i] = new Thread(() -> {
+				for(int j = 0; j < 1000; j++)
+					logger.info(id + ":" + j);
+				logger.debug("filtered");
+			});
+			threads[i].start();
+		}
+		for(Thread thread : threads)
+			thread.join();
+
+		logger.flush();
+
+		Array<String> lines = target.getLines();
+		assertEquals(threads.length * 1000, lines.size);
+
+		int[] next = new int[threads.length];
+		for(String line : lines) {
+			String message = line.substring(line.indexOf("] ") + 2);
+			int separator = message.indexOf(':');
+			int id = Integer.parseInt(message.substring(0, separator));
+			int value = Integer.parseInt(message.substring(separator + 1));
+			assertEquals("Messages of a thread must be written in order", next[id]++, value);
+		}
+
+		logger.close();
+		logger.error("after close");
+		assertEquals(threads.length * 1000 + 1, lines.size);
+	}
+
+	@Test
+	public void testClose() {
+		CacheLogger target = new CacheLogger(LogLevel.INFO);
+		AsyncLogger logger = new AsyncLogger(target, 1024, OverflowPolicy.DROP);
+
+		for(int i = 0; i < 100; i++)
+			logger.warn("message " + i, i == 0 ? new RuntimeException() : null);
+		logger.close();
+
+		assertEquals(100 - logger.getDroppedCount(), target.getLines().size);
+		assertTrue(target.getLines().get(0).contains("RuntimeException"));
+	}
+
+	@Test
+	public void testFailingTarget() {
+		Array<String> lines = new Array<>();
+		AbstractLogger target = new AbstractLogger(LogLevel.INFO) {
+			@Override
+			protected void write(String line) {
+				if(line.endsWith("fail"))
+					throw new IllegalStateException("Test failure");
+				lines.add(line);
+			}
+		};
+		AsyncLogger logger = new AsyncLogger(target, 4, OverflowPolicy.BLOCK);
+
+		logger.info("fail");
+		for(int i = 0; i < 100; i++)
+			logger.info("message " + i);
+		logger.flush();
+
+		assertEquals("Messages after a failure must still be written", 100, lines.size);
+		logger.close();
+	}
+}
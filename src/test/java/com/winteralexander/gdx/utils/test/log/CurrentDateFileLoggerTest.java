@@ -0,0 +1,71 @@
+package com.winteralexander.gdx.utils.test.log;
+
+import com.winteralexander.gdx.utils.log.CurrentDateFileLogger;
+import com.winteralexander.gdx.utils.log.Logger.LogLevel;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Calendar;
+import java.util.List;
+
+import static com.winteralexander.gdx.utils.io.FileUtil.getLogFile;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link CurrentDateFileLogger}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class CurrentDateFileLoggerTest {
+	@Test
+	public void testRolloverAtMidnight() throws IOException {
+		File dir = Files.createTempDirectory("CurrentDateFileLoggerTest").toFile();
+		dir.deleteOnExit();
+
+		long now = System.currentTimeMillis();
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(now);
+		calendar.set(Calendar.HOUR_OF_DAY, 0);
+		calendar.set(Calendar.MINUTE, 0);
+		calendar.set(Calendar.SECOND, 0);
+		calendar.set(Calendar.MILLISECOND, 0);
+		calendar.add(Calendar.DAY_OF_MONTH, 1);
+		long midnight = calendar.getTimeInMillis();
+
+		File today = getLogFile(dir, now);
+		File tomorrow = getLogFile(dir, midnight);
+		today.deleteOnExit();
+		tomorrow.deleteOnExit();
+
+		TimedLogger logger = new TimedLogger(dir);
+		logger.infoAt(now, "first");
+		logger.infoAt(midnight - 1L, "before midnight");
+		logger.infoAt(midnight, "after midnight");
+		logger.infoAt(midnight + 1000L, "next day");
+		logger.close();
+
+		List<String> todayLines = Files.readAllLines(today.toPath());
+		assertEquals(2, todayLines.size());
+		assertTrue(todayLines.get(1).endsWith("before midnight"));
+
+		List<String> tomorrowLines = Files.readAllLines(tomorrow.toPath());
+		assertEquals("Logger must move to the next day's file at midnight",
+				2, tomorrowLines.size());
+		assertTrue(tomorrowLines.get(0).endsWith("after midnight"));
+		assertTrue(tomorrowLines.get(1).endsWith("next day"));
+	}
+
+	private static class TimedLogger extends CurrentDateFileLogger {
+		public TimedLogger(File baseDir) {
+			super(LogLevel.INFO, baseDir, false);
+		}
+
+		public void infoAt(long time, String message) {
+			log(time, LogLevel.INFO, message, null);
+		}
+	}
+}
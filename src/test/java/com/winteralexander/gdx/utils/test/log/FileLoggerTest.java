@@ -0,0 +1,107 @@
+package com.winteralexander.gdx.utils.test.log;
+
+import com.winteralexander.gdx.utils.log.FileLogger;
+import com.winteralexander.gdx.utils.log.Logger.LogLevel;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link FileLogger}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class FileLoggerTest {
+	@Test
+	public void testBuffering() throws IOException {
+		File file = File.createTempFile("FileLoggerTest", ".log");
+		file.deleteOnExit();
+
+		FileLogger logger = new FileLogger(LogLevel.INFO, file, false, 64);
+		logger.setFlushPolicy(LogLevel.ERROR, Long.MAX_VALUE);
+
+		logger.info("first");
+		assertTrue("Lines must be buffered", lines(file).size() <= 1);
+
+		for(int i = 0; i < 100; i++)
+			logger.info("line " + i);
+		assertTrue("Full buffer must be written", lines(file).size() > 1);
+
+		logger.error("error");
+		List<String> lines = lines(file);
+		assertEquals("Error must be written right away", 102, lines.size());
+		assertTrue(lines.get(0).endsWith("[INFO] first"));
+		assertTrue(lines.get(101).endsWith("[ERROR] error"));
+
+		logger.close();
+		logger.warn("reopened");
+		logger.close();
+		assertEquals(103, lines(file).size());
+	}
+
+	@Test
+	public void testWriteThroughByDefault() throws IOException {
+		File file = File.createTempFile("FileLoggerTest", ".log");
+		file.deleteOnExit();
+
+		FileLogger logger = new FileLogger(LogLevel.DEBUG, file, false);
+		logger.debug("first");
+		assertEquals("Lines must be written right away", 1, lines(file).size());
+		logger.info("second");
+		assertEquals(2, lines(file).size());
+		logger.close();
+	}
+
+	@Test
+	public void testLongLine() throws IOException {
+		File file = File.createTempFile("FileLoggerTest", ".log");
+		file.deleteOnExit();
+
+		StringBuilder message = new StringBuilder();
+		for(int i = 0; i < 1000; i++)
+			message.append(i % 10);
+
+		FileLogger logger = new FileLogger(LogLevel.INFO, file, false, 16);
+		logger.info(message.toString());
+		logger.info("after");
+		logger.close();
+
+		List<String> lines = lines(file);
+		assertEquals(2, lines.size());
+		assertTrue(lines.get(0).endsWith(message.toString()));
+	}
+
+	@Test
+	public void testMinimumBufferSize() throws IOException {
+		File file = File.createTempFile("FileLoggerTest", ".log");
+		file.deleteOnExit();
+
+		try {
+			new FileLogger(LogLevel.INFO, file, false, 1);
+			fail("Buffer too small for a character must be rejected");
+		} catch(IllegalArgumentException expected) {}
+
+		int minSize = (int)Math.ceil(Charset.defaultCharset().newEncoder().maxBytesPerChar() * 2f)
+				+ System.lineSeparator().getBytes().length;
+		FileLogger logger = new FileLogger(LogLevel.INFO, file, false, minSize);
+		logger.info("\uD83D\uDE00 \u00E9");
+		logger.close();
+
+		assertEquals(1, lines(file).size());
+	}
+
+	private static List<String> lines(File file) throws IOException {
+		if(!file.exists())
+			return Collections.emptyList();
+		return Files.readAllLines(file.toPath());
+	}
+}
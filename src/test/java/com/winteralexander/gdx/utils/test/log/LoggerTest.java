@@ -0,0 +1,92 @@
+package com.winteralexander.gdx.utils.test.log;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.utils.log.CacheLogger;
+import com.winteralexander.gdx.utils.log.LogFormatter;
+import com.winteralexander.gdx.utils.log.LogMultiplexer;
+import com.winteralexander.gdx.utils.log.Logger.LogLevel;
+import com.winteralexander.gdx.utils.log.NullLogger;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the lazy and parameterized methods of
+ * {@link com.winteralexander.gdx.utils.log.Logger}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class LoggerTest {
+	@Test
+	public void testFormat() {
+		assertEquals("x=1 y=2", LogFormatter.format("x={} y={}", 1L, 2L));
+		assertEquals("x=1.5", LogFormatter.format("x={}", 1.5));
+		assertEquals("x=0.1", LogFormatter.format("x={}", 0.1f));
+		assertEquals("a b {}", LogFormatter.format("{} {} {}", "a", "b"));
+		assertEquals("a", LogFormatter.format("{}", "a", "b", "c"));
+		assertEquals("no placeholder", LogFormatter.format("no placeholder", (Object)null));
+		assertEquals("null", LogFormatter.format("{}", (Object)null));
+	}
+
+	@Test
+	public void testParameterized() {
+		CacheLogger logger = new CacheLogger(LogLevel.INFO);
+
+		logger.info("x={} y={}", 3, 4);
+		logger.warn("name={}", "test");
+		logger.error("{} {} {}", 'a', true, 2.5);
+		logger.debug("filtered {}", 1);
+
+		Array<String> lines = logger.getLines();
+		assertEquals(3, lines.size);
+		assertTrue(lines.get(0).endsWith("[INFO] x=3 y=4"));
+		assertTrue(lines.get(1).endsWith("[WARNING] name=test"));
+		assertTrue(lines.get(2).endsWith("[ERROR] a true 2.5"));
+	}
+
+	@Test
+	public void testTrailingThrowable() {
+		CacheLogger logger = new CacheLogger(LogLevel.INFO);
+
+		logger.warn("load {} failed", 7, new IllegalStateException("Test failure"));
+		logger.error("{} {} failed", "a", "b", new IllegalStateException("Test failure"));
+
+		Array<String> lines = logger.getLines();
+		assertEquals(2, lines.size);
+		assertTrue(lines.get(0).contains("[WARNING] load 7 failed"));
+		assertTrue("Trailing throwable must be logged with its stack trace",
+				lines.get(0).contains("at com.winteralexander"));
+		assertTrue(lines.get(1).contains("[ERROR] a b failed"));
+		assertTrue(lines.get(1).contains("IllegalStateException: Test failure"));
+	}
+
+	@Test
+	public void testLazyMessage() {
+		CacheLogger first = new CacheLogger(LogLevel.WARNING);
+		CacheLogger second = new CacheLogger(LogLevel.DEBUG);
+		LogMultiplexer multiplexer = new LogMultiplexer(first, second);
+		int[] calls = new int[1];
+
+		first.info(() -> {
+			calls[0]++;
+			return "filtered";
+		});
+		assertEquals("Suppliers must not be called below the log level", 0, calls[0]);
+
+		multiplexer.info(() -> {
+			calls[0]++;
+			return "message";
+		});
+		assertEquals("Suppliers must be called once for all loggers", 1, calls[0]);
+		assertEquals(0, first.getLines().size);
+		assertEquals(1, second.getLines().size);
+
+		NullLogger.INSTANCE.error(() -> {
+			calls[0]++;
+			return "silent";
+		});
+		assertEquals(1, calls[0]);
+	}
+}
@@ -0,0 +1,425 @@
+package com.winteralexander.gdx.utils.test.scheduler;
+
+import com.badlogic.gdx.utils.Array;
+import com.winteralexander.gdx.utils.async.ThreadPerTaskExecutor;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor;
+import com.winteralexander.gdx.utils.async.WorkerPoolExecutor.SaturationPolicy;
+import com.winteralexander.gdx.utils.log.NullLogger;
+import com.winteralexander.gdx.utils.scheduler.ArrayTaskQueue;
+import com.winteralexander.gdx.utils.scheduler.HeapTaskQueue;
+import com.winteralexander.gdx.utils.scheduler.Scheduler;
+import com.winteralexander.gdx.utils.scheduler.Scheduler.CatchUpPolicy;
+import com.winteralexander.gdx.utils.scheduler.SchedulerMetrics;
+import com.winteralexander.gdx.utils.scheduler.SchedulerMetrics.TaskStatsSnapshot;
+import com.winteralexander.gdx.utils.scheduler.Task;
+import com.winteralexander.gdx.utils.scheduler.TaskQueue;
+import com.winteralexander.gdx.utils.scheduler.VirtualClock;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit test for {@link Scheduler}
+ * <p>
+ * Created on 2026-10-17.
+ *
+ * @author Alexander Winter
+ */
+public class SchedulerTest {
+	@Test
+	public void testOneShotAndRepeating() throws InterruptedException {
+		testOneShotAndRepeating(ArrayTaskQueue::new);
+		testOneShotAndRepeating(HeapTaskQueue::new);
+	}
+
+	@Test
+	public void testCancel() throws InterruptedException {
+		testCancel(ArrayTaskQueue::new);
+		testCancel(HeapTaskQueue::new);
+	}
+
+	@Test
+	public void testInsertionOrder() {
+		testInsertionOrder(ArrayTaskQueue::new);
+		testInsertionOrder(HeapTaskQueue::new);
+	}
+
+	@Test
+	public void testWaitingDelay() {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		assertEquals(Long.MAX_VALUE, scheduler.getWaitingDelay());
+
+		scheduler.addTask(() -> {}, 10_000L);
+		scheduler.addTask(() -> {}, 500L);
+		scheduler.addTask(() -> {}, 5_000L);
+
+		long delay = scheduler.getWaitingDelay();
+		assertTrue(delay <= 500L && delay > 400L);
+		assertEquals(3, scheduler.getTaskCount());
+	}
+
+	@Test
+	public void testHeapOrder() {
+		HeapTaskQueue queue = new HeapTaskQueue();
+		Task[] tasks = new Task[100];
+		for(int i = 0; i < tasks.length; i++) {
+			tasks[i] = new Task(0L);
+			queue.add(tasks[i], (i * 37) % 100);
+		}
+
+		for(int i = 0; i < tasks.length; i += 2)
+			assertTrue(queue.remove(tasks[i]));
+		assertFalse(queue.remove(tasks[0]));
+		assertEquals(50, queue.size());
+
+		long previous = Long.MIN_VALUE;
+		Array<Task> due = new Array<>();
+		while(queue.size() > 0) {
+			long deadline = queue.getNextDeadline();
+			assertTrue(deadline >= previous);
+			previous = deadline;
+
+			due.clear();
+			queue.pollDue(deadline, due);
+			assertFalse(due.isEmpty());
+		}
+		assertEquals(Long.MAX_VALUE, queue.getNextDeadline());
+	}
+
+	@Test
+	public void testExecutor() throws InterruptedException {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		WorkerPoolExecutor affinityExecutor = new WorkerPoolExecutor("Affinity",
+				1,
+				16,
+				SaturationPolicy.BLOCK);
+		scheduler.setExecutor(new ThreadPerTaskExecutor("Scheduler"), affinityExecutor);
+
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		AtomicInteger fastRuns = new AtomicInteger();
+		scheduler.addTask(() -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(30L);
+			} catch(InterruptedException ex) {
+				throw new RuntimeException(ex);
+			}
+			running.decrementAndGet();
+		}, 1L, true);
+		scheduler.addTask(fastRuns::incrementAndGet, 1L, true);
+
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		for(int i = 0; i < 2; i++) {
+			Task task = new Task(1L, true, () -> threads.add(Thread.currentThread().getName()));
+			task.setAffinity("key");
+			scheduler.addTask(task);
+		}
+
+		scheduler.start();
+		long end = System.currentTimeMillis() + 100L;
+		while(System.currentTimeMillis() < end) {
+			scheduler.update();
+			Thread.sleep(2L);
+		}
+		scheduler.clear();
+
+		assertEquals("Task must never overlap itself", 1, maxRunning.get());
+		assertTrue("Slow task must not delay others", fastRuns.get() > 10);
+		assertEquals(1, threads.size());
+		assertTrue(threads.contains("Affinity"));
+		affinityExecutor.shutdown();
+	}
+
+	@Test
+	public void testOneShotDueWhileExecuting() {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		Array<Runnable> dispatched = new Array<>();
+		scheduler.setExecutor(dispatched::add);
+
+		AtomicInteger runs = new AtomicInteger();
+		Task task = new Task(0L, false, runs::incrementAndGet);
+		scheduler.addTask(task);
+		scheduler.start();
+		scheduler.update();
+		assertEquals(1, dispatched.size);
+
+		scheduler.addTask(task);
+		scheduler.update();
+		assertEquals("Task must not be dispatched while executing", 1, dispatched.size);
+		assertTrue("Task must stay in the scheduler", scheduler.contains(task));
+		assertEquals("Task must not be due again while executing",
+				Long.MAX_VALUE,
+				scheduler.getWaitingDelayNanos());
+
+		dispatched.removeIndex(0).run();
+		assertTrue(scheduler.getWaitingDelayNanos() <= 0L);
+		scheduler.update();
+		assertEquals(1, dispatched.size);
+		dispatched.removeIndex(0).run();
+
+		assertEquals(2, runs.get());
+		assertEquals(0, scheduler.getTaskCount());
+		assertEquals(0L, task.getOverruns());
+	}
+
+	@Test
+	public void testEpochExecutionTime() {
+		long before = System.currentTimeMillis();
+		Scheduler scheduler = new Scheduler(new NullLogger());
+		scheduler.start();
+		long time = scheduler.executionTime();
+
+		assertTrue("Execution time must be since epoch",
+				Math.abs(time - before) < 1_000L);
+		assertEquals(0L, new Scheduler(new NullLogger(),
+				new ArrayTaskQueue(),
+				new VirtualClock()).executionTime());
+	}
+
+	@Test
+	public void testRedefinedDelay() {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		AtomicInteger runs = new AtomicInteger();
+		scheduler.addTask(new Task(60_000L, false, runs::incrementAndGet) {
+			@Override
+			public long getDelay() {
+				return 0L;
+			}
+		});
+		scheduler.start();
+		scheduler.update();
+
+		assertEquals("Redefined delay must be used", 1, runs.get());
+	}
+
+	@Test
+	public void testCatchUp() throws InterruptedException {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		scheduler.setMaxCatchUp(3);
+		AtomicInteger runs = new AtomicInteger();
+		Task task = new Task(1L, true, runs::incrementAndGet);
+		scheduler.addTask(task);
+		scheduler.start();
+
+		Thread.sleep(50L);
+		scheduler.update();
+		assertEquals(3, runs.get());
+		scheduler.update();
+		assertEquals("Backlog must be caught up in the next updates", 6, runs.get());
+
+		scheduler.setCatchUpPolicy(CatchUpPolicy.SKIP);
+		Thread.sleep(50L);
+		scheduler.update();
+		assertEquals(9, runs.get());
+		assertTrue(task.getOverruns() >= 40L);
+		assertEquals(task.getOverruns(), scheduler.getOverrunCount());
+
+		scheduler.update();
+		assertTrue("Skipped turns must not be run", runs.get() <= 10);
+	}
+
+	@Test
+	public void testPost() {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		AtomicInteger sum = new AtomicInteger();
+		scheduler.start();
+
+		for(int round = 0; round < 3; round++) {
+			for(int i = 1; i <= 10; i++)
+				scheduler.post(sum::addAndGet, i);
+			scheduler.wrap(sum::addAndGet).accept(100);
+			scheduler.update();
+		}
+
+		assertEquals(3 * 155, sum.get());
+		assertEquals(0, scheduler.getTaskCount());
+	}
+
+	@Test
+	public void testPostAfterClear() {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		AtomicInteger sum = new AtomicInteger();
+		scheduler.start();
+
+		scheduler.post(sum::addAndGet, 1000);
+		scheduler.schedule(sum::incrementAndGet, 10_000L);
+		scheduler.clear();
+
+		scheduler.post(sum::addAndGet, 1);
+		scheduler.post(sum::addAndGet, 2);
+		scheduler.update();
+
+		assertEquals("Cleared tasks must be reused only once", 3, sum.get());
+	}
+
+	@Test
+	public void testStaleHandle() throws InterruptedException {
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue());
+		AtomicInteger runs = new AtomicInteger();
+		scheduler.start();
+
+		long first = scheduler.schedule(runs::incrementAndGet, 1L);
+		assertTrue(scheduler.cancel(first));
+		assertFalse(scheduler.cancel(first));
+
+		long second = scheduler.schedule(runs::incrementAndGet, 1L);
+		assertNotEquals(first, second);
+		assertFalse("Stale handle must not cancel the reused task", scheduler.cancel(first));
+
+		Thread.sleep(5L);
+		scheduler.update();
+		assertEquals(1, runs.get());
+		assertFalse(scheduler.cancel(second));
+	}
+
+	@Test
+	public void testSimulateDay() {
+		String first = simulateDay(), second = simulateDay();
+		assertEquals("Simulations must be deterministic", first, second);
+	}
+
+	@Test
+	public void testMetrics() {
+		Scheduler scheduler = new Scheduler(new NullLogger(),
+				new HeapTaskQueue(),
+				new VirtualClock());
+		SchedulerMetrics metrics = new SchedulerMetrics();
+		scheduler.setMetrics(metrics);
+
+		Task tick = new Task(10L, true, () -> {});
+		tick.setName("tick");
+		Task failing = new Task(100L, false, () -> {
+			throw new IllegalStateException();
+		});
+		failing.setName("failing");
+		scheduler.addTask(tick);
+		scheduler.addTask(failing);
+
+		scheduler.simulate(1000L);
+
+		TaskStatsSnapshot tickStats = metrics.getTaskStats("tick").snapshot();
+		assertEquals(100L, tickStats.getRuns());
+		assertEquals(0L, tickStats.getExceptions());
+		assertEquals(0L, tickStats.getLateness().getMax());
+		assertEquals(tickStats.getRunTime().getTotal(), tickStats.getTotalRunTime());
+
+		TaskStatsSnapshot failingStats = metrics.getTaskStats("failing").snapshot();
+		assertEquals(1L, failingStats.getRuns());
+		assertEquals(1L, failingStats.getExceptions());
+		assertEquals(2, metrics.snapshot().size);
+
+		metrics.reset();
+		assertEquals(0L, metrics.getTaskStats("tick").snapshot().getRuns());
+	}
+
+	private static String simulateDay() {
+		VirtualClock clock = new VirtualClock();
+		Scheduler scheduler = new Scheduler(new NullLogger(), new HeapTaskQueue(), clock);
+		StringBuilder trace = new StringBuilder();
+		AtomicInteger ticks = new AtomicInteger(), hours = new AtomicInteger();
+
+		scheduler.addTask(ticks::incrementAndGet, 50L, true);
+		scheduler.addTask(() -> trace.append('h').append(scheduler.executionTime()),
+				3_600_000L, true);
+		scheduler.addTask(hours::incrementAndGet, 3_600_000L, true);
+		for(int i = 0; i < 100; i++) {
+			int id = i;
+			scheduler.addTask(() -> trace.append('t').append(id), (i * 7919L) % 86_400_000L);
+		}
+
+		long start = System.nanoTime();
+		scheduler.simulate(86_400_000L);
+		long wallTime = System.nanoTime() - start;
+
+		assertEquals(86_400_000L, scheduler.executionTime());
+		assertEquals(86_400_000 / 50, ticks.get());
+		assertEquals(24, hours.get());
+		assertEquals(3, scheduler.getTaskCount());
+		assertTrue(trace.toString().endsWith("h86400000"));
+		assertTrue("A simulated day must not take real time",
+				wallTime < TimeUnit.SECONDS.toNanos(10L));
+		return trace.toString();
+	}
+
+	private static void testOneShotAndRepeating(Supplier<TaskQueue> queue)
+			throws InterruptedException {
+		Scheduler scheduler = new Scheduler(new NullLogger(), queue.get());
+		AtomicInteger oneShot = new AtomicInteger(), repeating = new AtomicInteger();
+		AtomicInteger everyUpdate = new AtomicInteger();
+
+		scheduler.addTask(oneShot::incrementAndGet, 10L);
+		scheduler.addTask(repeating::incrementAndGet, 10L, true);
+		scheduler.addTask(everyUpdate::incrementAndGet, 0L, true);
+		scheduler.start();
+
+		scheduler.update();
+		assertEquals(0, oneShot.get());
+		assertEquals(1, everyUpdate.get());
+
+		Thread.sleep(35L);
+		scheduler.update();
+		assertEquals(1, oneShot.get());
+		assertTrue(repeating.get() >= 3);
+		assertEquals(2, everyUpdate.get());
+		assertEquals(2, scheduler.getTaskCount());
+	}
+
+	private static void testInsertionOrder(Supplier<TaskQueue> queue) {
+		// a virtual clock gives all tasks the same deadline
+		Scheduler scheduler = new Scheduler(new NullLogger(), queue.get(), new VirtualClock());
+		Array<Integer> order = new Array<>();
+		scheduler.start();
+
+		for(int round = 0; round < 2; round++) {
+			for(int i = 0; i < 20; i++) {
+				int id = i;
+				if(i % 3 == 0)
+					scheduler.addTask(new Task(0L, false, () -> order.add(id)));
+				else
+					scheduler.post(order::add, id);
+			}
+			scheduler.update();
+		}
+
+		assertEquals(40, order.size);
+		for(int i = 0; i < 40; i++)
+			assertEquals("Tasks due in the same update must run in insertion order",
+					Integer.valueOf(i % 20),
+					order.get(i));
+	}
+
+	private static void testCancel(Supplier<TaskQueue> queue) throws InterruptedException {
+		Scheduler scheduler = new Scheduler(new NullLogger(), queue.get());
+		AtomicInteger runs = new AtomicInteger();
+
+		Task selfCancelling = new Task(5L, true) {
+			@Override
+			public void run() {
+				runs.incrementAndGet();
+				getScheduler().cancelTask(this);
+			}
+		};
+		Task cancelled = new Task(5L, true, runs::incrementAndGet);
+
+		scheduler.addTask(selfCancelling);
+		scheduler.addTask(cancelled);
+		scheduler.cancelTask(cancelled);
+		assertFalse(scheduler.contains(cancelled));
+		scheduler.start();
+
+		Thread.sleep(10L);
+		scheduler.update();
+		Thread.sleep(10L);
+		scheduler.update();
+
+		assertTrue(runs.get() >= 1 && runs.get() <= 2);
+		assertFalse(scheduler.contains(selfCancelling));
+		assertEquals(0, scheduler.getTaskCount());
+	}
+}